@@ -0,0 +1,14 @@
+// A* with a Manhattan heuristic. The heuristic is consistent on a 4-connected grid,
+// so the first time the goal is expanded its path is a shortest one.
+public class AStarSolver extends HeuristicSolver {
+    @Override
+    public String getName() {
+        return "A*";
+    }
+
+    // Order by f = g + h, breaking ties toward the cell closer to the goal
+    @Override
+    protected long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+}
@@ -0,0 +1,83 @@
+import java.util.Arrays;
+
+// Allocation-free breadth-first search over a WallGrid.
+// Scratch buffers are sized on first use and reused by every later solve, so once
+// warmed up a solve only allocates its result.
+public class BfsSolver implements PathSolver {
+    private int[] queue = new int[0];
+    private int[] parent = new int[0];
+    private int[] seen = new int[0];
+    private int stamp = 0;
+
+    @Override
+    public String getName() {
+        return "BFS";
+    }
+
+    @Override
+    public SolveResult solve(WallGrid walls, int start, int goal) {
+        long startTime = System.nanoTime();
+        int cellCount = walls.getCellCount();
+        ensureCapacity(cellCount);
+        nextStamp();
+
+        if (walls.isWall(start) || walls.isWall(goal)) {
+            return SolveResult.noPath(getName(), 0, 0, System.nanoTime() - startTime);
+        }
+
+        int width = walls.getWidth();
+        int lastRow = cellCount - width;
+
+        // Every cell is enqueued at most once, so head/tail never wrap
+        int head = 0;
+        int tail = 0;
+        int peakFrontier = 1;
+        queue[tail++] = start;
+        seen[start] = stamp;
+        parent[start] = -1;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            if (cell == goal) {
+                return new SolveResult(getName(), SolveResult.tracePath(parent, goal),
+                        head, peakFrontier, System.nanoTime() - startTime);
+            }
+
+            int x = cell % width;
+            if (cell >= width) tail = visit(walls, cell, cell - width, tail);   // up
+            if (cell < lastRow) tail = visit(walls, cell, cell + width, tail);  // down
+            if (x > 0) tail = visit(walls, cell, cell - 1, tail);               // left
+            if (x < width - 1) tail = visit(walls, cell, cell + 1, tail);       // right
+            peakFrontier = Math.max(peakFrontier, tail - head);
+        }
+
+        return SolveResult.noPath(getName(), head, peakFrontier, System.nanoTime() - startTime);
+    }
+
+    private int visit(WallGrid walls, int from, int next, int tail) {
+        if (seen[next] != stamp && !walls.isWall(next)) {
+            seen[next] = stamp;
+            parent[next] = from;
+            queue[tail++] = next;
+        }
+        return tail;
+    }
+
+    private void ensureCapacity(int cellCount) {
+        if (queue.length < cellCount) {
+            queue = new int[cellCount];
+            parent = new int[cellCount];
+            seen = new int[cellCount];
+            stamp = 0;
+        }
+    }
+
+    // A fresh stamp marks every cell unvisited without clearing the array
+    private void nextStamp() {
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.Arrays;
+
+// Breadth-first search from the start and the goal at the same time, always expanding one
+// whole level of the smaller frontier. Each side keeps its own primitive queue, parent,
+// distance and visited arrays; the two half paths are stitched together where they meet.
+// The first meeting found is already on a shortest path, so results match BfsSolver's length.
+public class BidirectionalBfsSolver implements PathSolver {
+    private final Side forward = new Side();
+    private final Side backward = new Side();
+    private int stamp = 0;
+    private int expanded;
+
+    @Override
+    public String getName() {
+        return "Bi-BFS";
+    }
+
+    @Override
+    public SolveResult solve(WallGrid walls, int start, int goal) {
+        long startTime = System.nanoTime();
+        int cellCount = walls.getCellCount();
+        forward.ensureCapacity(cellCount);
+        backward.ensureCapacity(cellCount);
+        nextStamp();
+        expanded = 0;
+
+        if (walls.isWall(start) || walls.isWall(goal)) {
+            return SolveResult.noPath(getName(), 0, 0, System.nanoTime() - startTime);
+        }
+        if (start == goal) {
+            return new SolveResult(getName(), new int[]{start}, 1, 1, System.nanoTime() - startTime);
+        }
+
+        forward.reset(start, stamp);
+        backward.reset(goal, stamp);
+
+        int peakFrontier = 2;
+        while (forward.hasFrontier() && backward.hasFrontier()) {
+            boolean forwardSmaller = forward.frontierSize() <= backward.frontierSize();
+            Side side = forwardSmaller ? forward : backward;
+            Side other = forwardSmaller ? backward : forward;
+
+            int meet = expandLevel(walls, side, other);
+            peakFrontier = Math.max(peakFrontier, forward.frontierSize() + backward.frontierSize());
+            if (meet >= 0) {
+                return new SolveResult(getName(), stitch(meet), expanded, peakFrontier,
+                        System.nanoTime() - startTime);
+            }
+        }
+
+        return SolveResult.noPath(getName(), expanded, peakFrontier, System.nanoTime() - startTime);
+    }
+
+    // Expands every cell of the side's current level; returns the first cell also seen by other, or -1
+    private int expandLevel(WallGrid walls, Side side, Side other) {
+        int width = walls.getWidth();
+        int lastRow = walls.getCellCount() - width;
+        int levelEnd = side.tail;
+
+        while (side.head < levelEnd) {
+            int cell = side.queue[side.head++];
+            expanded++;
+
+            int x = cell % width;
+            int meet = -1;
+            if (cell >= width) meet = visit(walls, side, other, cell, cell - width, meet);   // up
+            if (cell < lastRow) meet = visit(walls, side, other, cell, cell + width, meet);  // down
+            if (x > 0) meet = visit(walls, side, other, cell, cell - 1, meet);               // left
+            if (x < width - 1) meet = visit(walls, side, other, cell, cell + 1, meet);       // right
+            if (meet >= 0) {
+                return meet;
+            }
+        }
+        return -1;
+    }
+
+    private int visit(WallGrid walls, Side side, Side other, int from, int next, int meet) {
+        if (meet >= 0 || side.seen[next] == stamp || walls.isWall(next)) {
+            return meet;
+        }
+        side.seen[next] = stamp;
+        side.parent[next] = from;
+        side.queue[side.tail++] = next;
+        return other.seen[next] == stamp ? next : -1;
+    }
+
+    // Forward half runs start..meet, backward half continues from meet's parent to the goal
+    private int[] stitch(int meet) {
+        int forwardLength = 0;
+        for (int cell = meet; cell != -1; cell = forward.parent[cell]) {
+            forwardLength++;
+        }
+        int backwardLength = 0;
+        for (int cell = backward.parent[meet]; cell != -1; cell = backward.parent[cell]) {
+            backwardLength++;
+        }
+
+        int[] path = new int[forwardLength + backwardLength];
+        int i = forwardLength;
+        for (int cell = meet; cell != -1; cell = forward.parent[cell]) {
+            path[--i] = cell;
+        }
+        i = forwardLength;
+        for (int cell = backward.parent[meet]; cell != -1; cell = backward.parent[cell]) {
+            path[i++] = cell;
+        }
+        return path;
+    }
+
+    // A fresh stamp marks every cell unvisited on both sides without clearing the arrays
+    private void nextStamp() {
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(forward.seen, 0);
+            Arrays.fill(backward.seen, 0);
+            stamp = 1;
+        }
+    }
+
+    private static class Side {
+        int[] queue = new int[0];
+        int[] parent = new int[0];
+        int[] seen = new int[0];
+        int head, tail;
+
+        void ensureCapacity(int cellCount) {
+            if (queue.length < cellCount) {
+                queue = new int[cellCount];
+                parent = new int[cellCount];
+                seen = new int[cellCount];
+            }
+        }
+
+        void reset(int root, int stamp) {
+            head = 0;
+            tail = 0;
+            queue[tail++] = root;
+            seen[root] = stamp;
+            parent[root] = -1;
+        }
+
+        boolean hasFrontier() {
+            return head < tail;
+        }
+
+        int frontierSize() {
+            return tail - head;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// Fixed-timestep loop on a thread of its own. The game advances in steps of exactly
+// 1 / stepsPerSecond of System.nanoTime, however many that takes per frame, and is rendered
+// between steps at up to framesPerSecond with the fraction of the next step already elapsed,
+// so motion can be interpolated. Neither the step rate nor the frame pacing depends on the EDT.
+//
+// All game state belongs to the loop thread once it runs; other threads hand work over with post.
+public class GameLoop implements Runnable {
+    public interface Game {
+        // One fixed step of game time
+        void update();
+
+        // Draws a frame; alpha in [0, 1) is how far game time has got towards the next step
+        void render(double alpha);
+
+        // Called on the loop thread as it exits, after a stop or a failure, so whatever the loop
+        // drew on can be handed back to passive painting
+        void stopped();
+    }
+
+    // After a stall (GC, window drag) catch up at most this much game time instead of running
+    // an ever longer burst of steps
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+
+    private final Game game;
+    private final long stepNanos;
+    private final long frameNanos;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    // The current loop thread; one left over from a requestStop exits once it sees it was replaced
+    private volatile Thread thread;
+
+    public GameLoop(Game game, double stepsPerSecond, double framesPerSecond) {
+        if (!(stepsPerSecond > 0) || !(framesPerSecond > 0)) {
+            throw new IllegalArgumentException("Rates must be positive: " + stepsPerSecond + " steps/s, "
+                    + framesPerSecond + " frames/s");
+        }
+        this.game = game;
+        this.stepNanos = Math.max(1, Math.round(1e9 / stepsPerSecond));
+        this.frameNanos = Math.max(1, Math.round(1e9 / framesPerSecond));
+    }
+
+    // Also restarts a loop that was asked to stop, or whose thread died of an exception
+    public synchronized void start() {
+        if (running && thread != null && thread.isAlive()) return;
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Stops the loop and waits for the frame in progress, so the caller can tear down what it draws on
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) return;
+        if (thread != Thread.currentThread()) {
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    // Stops the loop after its current frame without waiting for it; safe under locks the loop
+    // thread might need, such as the AWT tree lock
+    public void requestStop() {
+        running = false;
+    }
+
+    // False once stopped or requested to stop, and once an exception has ended the loop
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Runs task on the loop thread before the next step; tasks posted before start wait for it
+    public void post(Runnable task) {
+        tasks.add(task);
+    }
+
+    @Override
+    public void run() {
+        Thread self = Thread.currentThread();
+        long previous = System.nanoTime();
+        long lag = 0;
+
+        try {
+            while (running && thread == self) {
+                long frameStart = System.nanoTime();
+                lag = Math.min(lag + frameStart - previous, MAX_CATCH_UP_NANOS);
+                previous = frameStart;
+
+                for (Runnable task; (task = tasks.poll()) != null; ) {
+                    task.run();
+                }
+                while (lag >= stepNanos && running) {
+                    game.update();
+                    lag -= stepNanos;
+                }
+                game.render((double) lag / stepNanos);
+
+                // Sleep out the rest of the frame; parkNanos wakes far closer to the deadline than sleep
+                long deadline = frameStart + frameNanos;
+                for (long wait; running && (wait = deadline - System.nanoTime()) > 0; ) {
+                    LockSupport.parkNanos(this, wait);
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            // A frame cut short by a stop request, e.g. a canvas torn down under it, is expected
+            if (running && thread == self) {
+                MazeLog.error("Game loop stopped by an exception", ex);
+            }
+        } finally {
+            // A replaced thread leaves the state to the loop that replaced it
+            if (thread == self) {
+                running = false;
+                game.stopped();
+            }
+        }
+    }
+}
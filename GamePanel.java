@@ -2,6 +2,8 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.List;
 
@@ -9,20 +11,95 @@ public class GamePanel extends JPanel {
     private MazeSolver mainFrame;
     private MazeGrid mazeGrid;
     private Difficulty difficulty;
-    private boolean autoMode = false;
+    private final String playerName;
+    private volatile boolean autoMode = false;
     private javax.swing.Timer autoTimer;
     private int autoIndex = 0;
     private List<int[]> autoPath = new ArrayList<>();
-    private JLabel stepsLabel, timerLabel, difficultyLabel;
+    private JLabel stepsLabel, timerLabel, difficultyLabel, distanceLabel;
     private javax.swing.Timer gameTimer;
-    private int elapsedSeconds = 0;
+    private final long startNanos;
+    private volatile long stopNanos = -1;
+    private SolverType solverType;
+    private PathSolver pathSolver;
+    private int[] hintCell;
+
+    // Finished runs can be watched again from their MoveLog; while one plays, the ball is drawn
+    // where the replay is instead of where the maze has it
+    private MoveReplay replay;
+    private javax.swing.Timer replayTimer;
+    private long replayStartNanos;
+    private boolean finishSubmitted;
+    private LeaderboardEntry finishEntry;
+
+    // The gradient background (and glow of a maze that fits) only depends on the panel size,
+    // so it is drawn once per size
+    private BufferedImage backgroundLayer;
+
+    // Walls, floor and start/exit markers, cached as tiles around the part of the maze on screen
+    private final MazeTileCache mazeTiles;
+
+    // Camera centre in maze pixels. Axes on which the maze fits the viewport stay centred as before;
+    // on larger mazes the camera eases towards the ball, and dragging with the mouse pans it.
+    private double cameraX, cameraY;
+    private double cameraTargetX, cameraTargetY;
+    private javax.swing.Timer cameraTimer;
+    private Point dragStart;
+
+    // Game-loop mode only: the loop, the canvas it renders to, the ball cell before the latest step
+    // (the ball is drawn between the two), and what the Swing labels were last told
+    private GameLoop gameLoop;
+    private Canvas canvas;
+    private int prevBallX, prevBallY;
+    private long lastFrameNanos;
+    private long finishDueNanos = -1;
+    private int shownSteps = -1, shownDistance = -1;
+    private long shownSeconds = -1;
+    private int bufferWidth, bufferHeight;
+
+    // -Dmaze.loop=true runs the game on a fixed-timestep GameLoop that renders actively to a canvas
+    // instead of on Swing timers; -Dmaze.auto.speed sets auto-solve steps per second in either mode
+    // (Swing timers cannot go past 1000) and -Dmaze.loop.fps caps the loop's frame rate
+    private static final boolean USE_GAME_LOOP = Boolean.getBoolean("maze.loop");
+    private static final double AUTO_STEPS_PER_SECOND = doubleProperty("maze.auto.speed", 1000.0 / 150);
+    private static final double FRAMES_PER_SECOND = doubleProperty("maze.loop.fps", 60);
+    private static final long FINISH_DELAY_NANOS = 300_000_000L;
+    private static final double REPLAY_SPEED = 2.0;
+    private static final int REPLAY_TICK_MILLIS = 15;
+
+    private static final int CONTROL_HEIGHT = 60;
+    private static final int MAZE_OFFSET_Y = 100;
+    private static final int VIEW_MARGIN = 10;
+    private static final int GLOW_BORDER = 10;
+    private static final double CAMERA_EASING = 0.25;
+    private static final int CAMERA_TICK_MILLIS = 15;
+    private static final Color BACKGROUND_TOP = new Color(10, 10, 30);
+    private static final Color BACKGROUND_BOTTOM = new Color(30, 10, 50);
+    private static final Color MAZE_GLOW = new Color(0, 255, 0, 30);
+    private static final Color HINT_FILL = new Color(0, 255, 255, 120);
 
     public GamePanel(MazeSolver mainFrame, MazeGrid mazeGrid, boolean autoMode) {
+        this(mainFrame, mazeGrid, autoMode, SolverType.BFS);
+    }
+
+    public GamePanel(MazeSolver mainFrame, MazeGrid mazeGrid, boolean autoMode, SolverType solverType) {
+        this(mainFrame, mazeGrid, autoMode, solverType, "Player");
+    }
+
+    public GamePanel(MazeSolver mainFrame, MazeGrid mazeGrid, boolean autoMode, SolverType solverType,
+                     String playerName) {
         this.mainFrame = mainFrame;
+        this.playerName = playerName;
         this.mazeGrid = mazeGrid;
         this.difficulty = mazeGrid.getDifficulty();
         this.autoMode = autoMode;
-        this.elapsedSeconds = 0;
+        this.solverType = solverType;
+        this.pathSolver = solverType.create();
+        this.startNanos = System.nanoTime();
+        this.mazeTiles = new MazeTileCache(mazeGrid, fitCellSize(mazeGrid));
+
+        // Every run is recorded, see MazeGrid.getMoveLog
+        mazeGrid.startRecording();
 
         setLayout(null);
         setFocusable(true);
@@ -32,7 +109,7 @@ public class GamePanel extends JPanel {
         JPanel controlPanel = new JPanel();
         controlPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 20, 10));
         controlPanel.setBackground(new Color(20, 20, 40));
-        controlPanel.setBounds(0, 0, 1000, 60);
+        controlPanel.setBounds(0, 0, 1000, CONTROL_HEIGHT);
 
         // Difficulty label
         difficultyLabel = new JLabel("DIFFICULTY: " + difficulty.name());
@@ -52,11 +129,18 @@ public class GamePanel extends JPanel {
         stepsLabel.setFont(new Font("Monospaced", Font.BOLD, 24));
         controlPanel.add(stepsLabel);
 
+        // Distance remaining label (H shows the next move in manual mode)
+        distanceLabel = new JLabel();
+        distanceLabel.setForeground(Color.YELLOW);
+        distanceLabel.setFont(new Font("Monospaced", Font.BOLD, 20));
+        controlPanel.add(distanceLabel);
+        updateDistanceLabel();
+
         // Auto solve button
         JButton autoBtn = createControlButton("AUTO SOLVE");
         autoBtn.addActionListener(e -> {
             if (!this.autoMode) {
-                startAutoMode();
+                runOnGame(this::startAutoMode);
                 autoBtn.setEnabled(false);
             }
         });
@@ -72,25 +156,133 @@ public class GamePanel extends JPanel {
 
         add(controlPanel);
 
-        // Start game timer
-        gameTimer = new javax.swing.Timer(1000, e -> {
-            elapsedSeconds++;
-            updateTimerLabel();
-        });
-        gameTimer.start();
+        // Camera starts on the ball and follows it from there; drag to look around
+        int cellSize = mazeTiles.getCellSize();
+        cameraX = cameraTargetX = mazeGrid.getBallX() * cellSize + cellSize / 2.0;
+        cameraY = cameraTargetY = mazeGrid.getBallY() * cellSize + cellSize / 2.0;
+        prevBallX = mazeGrid.getBallX();
+        prevBallY = mazeGrid.getBallY();
+
+        if (USE_GAME_LOOP) {
+            // The canvas covers everything below the control bar and is drawn by the loop thread only;
+            // AWT paints it again once the loop has stopped, e.g. behind the finish dialog
+            canvas = new Canvas() {
+                @Override
+                public void update(Graphics g) {
+                    paint(g);
+                }
+
+                @Override
+                public void paint(Graphics g) {
+                    if (!gameLoop.isRunning()) {
+                        drawFrame((Graphics2D) g, getShownBallX(), getShownBallY());
+                    }
+                }
+            };
+            canvas.setIgnoreRepaint(true);
+            canvas.setFocusable(false);
+            add(canvas);
+
+            gameLoop = new GameLoop(new GameLoop.Game() {
+                @Override
+                public void update() {
+                    stepGame();
+                }
+
+                @Override
+                public void render(double alpha) {
+                    renderFrame(alpha);
+                }
+
+                @Override
+                public void stopped() {
+                    SwingUtilities.invokeLater(() -> {
+                        canvas.setIgnoreRepaint(false);
+                        canvas.repaint();
+                    });
+                }
+            }, AUTO_STEPS_PER_SECOND, FRAMES_PER_SECOND);
+        } else {
+            // Start game timer; it only refreshes the label, the time itself comes from System.nanoTime
+            gameTimer = new javax.swing.Timer(1000, e -> updateTimerLabel());
+            gameTimer.start();
+            cameraTimer = new javax.swing.Timer(CAMERA_TICK_MILLIS, e -> stepCamera());
+        }
 
         // If auto mode selected from home, start it
         if (this.autoMode) {
-            startAutoMode();
+            runOnGame(this::startAutoMode);
         }
 
         // Key listener
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                if (!GamePanel.this.autoMode) handleKeyPress(e);
+                if (!GamePanel.this.autoMode) {
+                    int key = e.getKeyCode();
+                    runOnGame(() -> handleKeyPress(key));
+                }
             }
         });
+
+        MouseAdapter dragPan = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStart = e.getPoint();
+                runOnGame(GamePanel.this::holdCamera);
+                requestFocusInWindow();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragStart == null) return;
+                int dx = dragStart.x - e.getX();
+                int dy = dragStart.y - e.getY();
+                runOnGame(() -> panCamera(dx, dy));
+                dragStart = e.getPoint();
+            }
+        };
+        addMouseListener(dragPan);
+        addMouseMotionListener(dragPan);
+        if (canvas != null) {
+            canvas.addMouseListener(dragPan);
+            canvas.addMouseMotionListener(dragPan);
+        }
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) return defaultValue;
+        try {
+            double parsed = Double.parseDouble(value);
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // Game state changes on the loop thread in game-loop mode and on the EDT otherwise
+    private void runOnGame(Runnable task) {
+        if (gameLoop != null) {
+            gameLoop.post(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private static void onSwingThread(Runnable task) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            task.run();
+        } else {
+            SwingUtilities.invokeLater(task);
+        }
+    }
+
+    // Active rendering redraws whole frames, so dirty rectangles only matter to Swing painting
+    private void repaintDirty(Rectangle dirty) {
+        if (gameLoop == null) {
+            repaint(dirty);
+        }
     }
 
     private JButton createControlButton(String text) {
@@ -104,46 +296,245 @@ public class GamePanel extends JPanel {
         return btn;
     }
 
+    private void updateDistanceLabel() {
+        distanceLabel.setText("EXIT: " + mazeGrid.getDistanceToExit());
+    }
+
+    // Labels for a move; the game loop publishes them once per frame instead
+    private void updateMoveLabels() {
+        if (gameLoop == null) {
+            stepsLabel.setText("MOVES: " + mazeGrid.getSteps());
+            updateDistanceLabel();
+        }
+    }
+
     private void updateTimerLabel() {
-        int mins = elapsedSeconds / 60;
-        int secs = elapsedSeconds % 60;
-        timerLabel.setText(String.format("TIME: %02d:%02d", mins, secs));
+        timerLabel.setText(formatTime(getElapsedSeconds()));
+    }
+
+    private static String formatTime(long seconds) {
+        return String.format("TIME: %02d:%02d", seconds / 60, seconds % 60);
     }
 
+    private long getElapsedSeconds() {
+        long end = stopNanos >= 0 ? stopNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000_000L;
+    }
+
+    private long getElapsedMillis() {
+        long end = stopNanos >= 0 ? stopNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000L;
+    }
+
+    private void stopClock() {
+        if (stopNanos < 0) {
+            stopNanos = System.nanoTime();
+        }
+    }
+
+    // Called on the EDT. The game loop is stopped here rather than in removeNotify, which runs under
+    // the AWT tree lock; from then on the canvas is painted passively like the rest of the panel.
     private void stopTimers() {
+        stopClock();
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
+            canvas.setIgnoreRepaint(false);
+            canvas.repaint();
+        }
         if (gameTimer != null && gameTimer.isRunning()) {
             gameTimer.stop();
         }
         if (autoTimer != null && autoTimer.isRunning()) {
             autoTimer.stop();
         }
+        if (cameraTimer != null && cameraTimer.isRunning()) {
+            cameraTimer.stop();
+        }
+        if (replayTimer != null && replayTimer.isRunning()) {
+            replayTimer.stop();
+        }
+    }
+
+    private int getShownBallX() {
+        return replay != null ? replay.getX() : mazeGrid.getBallX();
+    }
+
+    private int getShownBallY() {
+        return replay != null ? replay.getY() : mazeGrid.getBallY();
+    }
+
+    // Plays the finished run back from its MoveLog at REPLAY_SPEED times its recorded pace, on a
+    // Swing timer in either mode since the game loop has stopped by now; the finish dialog comes
+    // back once the replay reaches the end
+    private void startReplay() {
+        replay = new MoveReplay(mazeGrid.getMoveLog());
+        replayStartNanos = System.nanoTime();
+        replayTimer = new javax.swing.Timer(REPLAY_TICK_MILLIS, e -> stepReplay());
+        stepReplay();
+        replayTimer.start();
+    }
+
+    private void stepReplay() {
+        replay.seekToTime((System.nanoTime() - replayStartNanos) / 1e6 * REPLAY_SPEED);
+        followBall(replay.getX(), replay.getY());
+        if (cameraTimer == null) {
+            // No easing timer in game-loop mode
+            cameraX = cameraTargetX;
+            cameraY = cameraTargetY;
+        }
+        if (replay.isFinished()) {
+            replayTimer.stop();
+            replay = null;
+            javax.swing.Timer delayTimer = new javax.swing.Timer(300, evt -> showFinishMessage());
+            delayTimer.setRepeats(false);
+            delayTimer.start();
+        }
+        if (canvas != null) {
+            canvas.repaint();
+        } else {
+            repaint(getViewport());
+        }
+    }
+
+    // Re-aims the camera once the ball leaves the middle half of the viewport. Most moves therefore
+    // scroll nothing and only need the dirty-rectangle repaint from repaintMove.
+    private void followBall() {
+        followBall(mazeGrid.getBallX(), mazeGrid.getBallY());
+    }
+
+    private void followBall(int cellX, int cellY) {
+        int cellSize = mazeTiles.getCellSize();
+        double ballX = cellX * cellSize + cellSize / 2.0;
+        double ballY = cellY * cellSize + cellSize / 2.0;
+
+        Rectangle view = getViewport();
+        if (view.isEmpty() || !isScrolling(view, cellSize)) {
+            cameraX = cameraTargetX = ballX;
+            cameraY = cameraTargetY = ballY;
+            return;
+        }
+
+        int mazeWidth = mazeGrid.getWidth() * cellSize;
+        int mazeHeight = mazeGrid.getHeight() * cellSize;
+        boolean retarget = false;
+        if (Math.abs(ballX - clampCamera(cameraX, mazeWidth, view.width)) > view.width / 4.0) {
+            cameraTargetX = clampCamera(ballX, mazeWidth, view.width);
+            retarget = true;
+        }
+        if (Math.abs(ballY - clampCamera(cameraY, mazeHeight, view.height)) > view.height / 4.0) {
+            cameraTargetY = clampCamera(ballY, mazeHeight, view.height);
+            retarget = true;
+        }
+        if (retarget && cameraTimer != null && !cameraTimer.isRunning()) {
+            cameraTimer.start();
+        }
+    }
+
+    // Repaints only what a one-cell ball move changes: the ball with its glow at the old and new
+    // cell, which also covers the trail segment between them, and a hint that was just cleared
+    private void repaintMove(int fromX, int fromY, int[] clearedHint) {
+        Rectangle dirty = getBallBounds(fromX, fromY);
+        dirty.add(getBallBounds(mazeGrid.getBallX(), mazeGrid.getBallY()));
+        if (clearedHint != null) {
+            dirty.add(getCellBounds(clearedHint[0], clearedHint[1]));
+        }
+        repaintDirty(dirty);
+    }
+
+    private Rectangle getCellBounds(int x, int y) {
+        int cellSize = mazeTiles.getCellSize();
+        Rectangle view = getViewport();
+        int px = x * cellSize + getOriginX(view, cellSize);
+        int py = y * cellSize + getOriginY(view, cellSize);
+        return new Rectangle(px, py, cellSize + 1, cellSize + 1);
+    }
+
+    // Matches drawBall: the outermost glow ring reaches 6 px past the ball
+    private Rectangle getBallBounds(int x, int y) {
+        int cellSize = mazeTiles.getCellSize();
+        Rectangle view = getViewport();
+        int centerX = x * cellSize + getOriginX(view, cellSize) + cellSize / 2;
+        int centerY = y * cellSize + getOriginY(view, cellSize) + cellSize / 2;
+        int radius = Math.max(cellSize - 10, 12) / 2 + 7;
+        return new Rectangle(centerX - radius, centerY - radius, 2 * radius + 1, 2 * radius + 1);
+    }
+
+    // One easing step towards the target; stops once the camera has arrived
+    private void stepCamera() {
+        double dx = cameraTargetX - cameraX;
+        double dy = cameraTargetY - cameraY;
+        if (Math.abs(dx) < 0.5 && Math.abs(dy) < 0.5) {
+            cameraX = cameraTargetX;
+            cameraY = cameraTargetY;
+            cameraTimer.stop();
+        } else {
+            cameraX += dx * CAMERA_EASING;
+            cameraY += dy * CAMERA_EASING;
+        }
+        repaint(getViewport());
+    }
+
+    // stepCamera for the game loop: the same easing per CAMERA_TICK_MILLIS, applied for however
+    // long the last frame took
+    private void easeCamera(long elapsedNanos) {
+        double dx = cameraTargetX - cameraX;
+        double dy = cameraTargetY - cameraY;
+        if (Math.abs(dx) < 0.5 && Math.abs(dy) < 0.5) {
+            cameraX = cameraTargetX;
+            cameraY = cameraTargetY;
+        } else {
+            double ticks = elapsedNanos / (CAMERA_TICK_MILLIS * 1e6);
+            double eased = 1 - Math.pow(1 - CAMERA_EASING, ticks);
+            cameraX += dx * eased;
+            cameraY += dy * eased;
+        }
+    }
+
+    // Leaves the camera where it is, e.g. when the player grabs the maze to drag it
+    private void holdCamera() {
+        if (cameraTimer != null) {
+            cameraTimer.stop();
+        }
+        cameraTargetX = cameraX;
+        cameraTargetY = cameraY;
+    }
+
+    private void panCamera(int dx, int dy) {
+        int cellSize = mazeTiles.getCellSize();
+        Rectangle view = getViewport();
+        if (view.isEmpty() || !isScrolling(view, cellSize)) return;
+
+        cameraX = cameraTargetX = clampCamera(cameraX + dx, mazeGrid.getWidth() * cellSize, view.width);
+        cameraY = cameraTargetY = clampCamera(cameraY + dy, mazeGrid.getHeight() * cellSize, view.height);
+        repaintDirty(view);
     }
 
     private void startAutoMode() {
         this.autoMode = true;
 
-        // Get the shortest path from the maze grid
-        autoPath = mazeGrid.getShortestPath();
+        // BFS is already precomputed as the exit distance field, so follow it from wherever the
+        // ball is; other engines search from the ball for comparison
+        hintCell = null;
+        autoPath = solverType == SolverType.BFS ? mazeGrid.getPathToExit() : mazeGrid.getShortestPath(pathSolver);
 
         if (autoPath == null || autoPath.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No path found!", "Error", JOptionPane.ERROR_MESSAGE);
+            onSwingThread(() -> JOptionPane.showMessageDialog(this, "No path found!", "Error",
+                    JOptionPane.ERROR_MESSAGE));
             return;
         }
 
         autoIndex = 0;
 
+        // The game loop steps through the path itself
+        if (gameLoop != null) {
+            return;
+        }
+
         // Timer to animate through the path
-        autoTimer = new javax.swing.Timer(150, e -> {
+        int delay = (int) Math.max(1, Math.round(1000 / AUTO_STEPS_PER_SECOND));
+        autoTimer = new javax.swing.Timer(delay, e -> {
             if (autoIndex < autoPath.size()) {
-                int[] pos = autoPath.get(autoIndex);
-                // pos[0] is x, pos[1] is y
-                mazeGrid.setBallPosition(pos[0], pos[1]);
-
-                // Update steps display
-                stepsLabel.setText("MOVES: " + mazeGrid.getSteps());
-
-                autoIndex++;
-                repaint();
+                stepAuto();
 
                 // Check if we've reached the end
                 if (mazeGrid.isFinished()) {
@@ -168,32 +559,102 @@ public class GamePanel extends JPanel {
         autoTimer.start();
     }
 
-    private void handleKeyPress(KeyEvent e) {
+    // Moves the ball to the next cell of the auto-solve path
+    private void stepAuto() {
+        int[] pos = autoPath.get(autoIndex);
+        int fromX = mazeGrid.getBallX();
+        int fromY = mazeGrid.getBallY();
+        // pos[0] is x, pos[1] is y
+        mazeGrid.setBallPosition(pos[0], pos[1]);
+
+        // Update steps display
+        updateMoveLabels();
+
+        // The trail runs one segment ahead of the ball
+        if (autoIndex + 1 < autoPath.size()) {
+            int[] next = autoPath.get(autoIndex + 1);
+            mazeTiles.addTrailSegment(pos[0], pos[1], next[0], next[1]);
+            repaintDirty(getCellBounds(next[0], next[1]));
+        }
+
+        autoIndex++;
+        followBall();
+        repaintMove(fromX, fromY, null);
+    }
+
+    // One fixed step of the game loop: at most one auto-solve move, so the speed is exactly the step rate
+    private void stepGame() {
+        prevBallX = mazeGrid.getBallX();
+        prevBallY = mazeGrid.getBallY();
+        if (!autoMode || autoPath == null || autoIndex >= autoPath.size() || stopNanos >= 0) {
+            return;
+        }
+
+        stepAuto();
+        if (mazeGrid.isFinished()) {
+            // Show the finish dialog after a short pause, timed by the loop like everything else
+            stopClock();
+            finishDueNanos = System.nanoTime() + FINISH_DELAY_NANOS;
+        }
+    }
+
+    private void handleKeyPress(int key) {
+        if (stopNanos >= 0) return;
+
         boolean moved = false;
-        int key = e.getKeyCode();
+        int fromX = mazeGrid.getBallX();
+        int fromY = mazeGrid.getBallY();
 
         if (key == KeyEvent.VK_UP || key == KeyEvent.VK_W) moved = mazeGrid.moveUp();
         else if (key == KeyEvent.VK_DOWN || key == KeyEvent.VK_S) moved = mazeGrid.moveDown();
         else if (key == KeyEvent.VK_LEFT || key == KeyEvent.VK_A) moved = mazeGrid.moveLeft();
         else if (key == KeyEvent.VK_RIGHT || key == KeyEvent.VK_D) moved = mazeGrid.moveRight();
+        else if (key == KeyEvent.VK_H) {
+            hintCell = mazeGrid.getHint();
+            if (hintCell != null) {
+                repaintDirty(getCellBounds(hintCell[0], hintCell[1]));
+            }
+        }
 
         if (moved) {
-            stepsLabel.setText("MOVES: " + mazeGrid.getSteps());
-            repaint();
+            int[] clearedHint = hintCell;
+            hintCell = null;
+            // Player moves are shown at once rather than interpolated
+            prevBallX = mazeGrid.getBallX();
+            prevBallY = mazeGrid.getBallY();
+            updateMoveLabels();
+            followBall();
+            repaintMove(fromX, fromY, clearedHint);
         }
 
         if (mazeGrid.isFinished()) {
-            stopTimers();
-            showFinishMessage();
+            stopClock();
+            onSwingThread(this::showFinishMessage);
         }
     }
 
     private void showFinishMessage() {
         stopTimers();
+        // The game is over, so the labels can be brought up to date here whichever thread ran it
+        stepsLabel.setText("MOVES: " + mazeGrid.getSteps());
+        updateDistanceLabel();
+        updateTimerLabel();
+
+        // Only runs the player made count, once even if the dialog is shown again after a replay;
+        // the entry's maze key lets the dialog show this maze's board
+        Leaderboard leaderboard = mainFrame.getLeaderboard();
+        if (!finishSubmitted) {
+            finishSubmitted = true;
+            finishEntry = autoMode ? null : leaderboard.submit(playerName, difficulty,
+                    MazeKey.of(mazeGrid), getElapsedMillis(), mazeGrid.getSteps());
+        }
+        LeaderboardEntry entry = finishEntry;
 
         JDialog dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), "VICTORY!", true);
         dialog.setLayout(new BorderLayout());
-        dialog.setSize(450, 350);
+        MoveLog moveLog = mazeGrid.getMoveLog();
+        boolean canReplay = moveLog != null && moveLog.size() > 0;
+        dialog.setSize(450, (entry != null ? 420 : 350) + (canReplay ? 60 : 0));
         dialog.setLocationRelativeTo(this);
 
         JPanel panel = new JPanel();
@@ -240,6 +701,42 @@ public class GamePanel extends JPanel {
         panel.add(timeLabel);
         panel.add(Box.createVerticalStrut(10));
         panel.add(movesLabel);
+        if (entry != null) {
+            int rank = leaderboard.getRank(entry);
+            JLabel rankLabel = new JLabel(rank > 0 ? "RANK: #" + rank : "RANK: -");
+            rankLabel.setFont(new Font("Monospaced", Font.BOLD, 22));
+            rankLabel.setForeground(Color.GREEN);
+            rankLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            JButton boardBtn = new JButton("LEADERBOARD");
+            boardBtn.setFont(new Font("Monospaced", Font.BOLD, 18));
+            boardBtn.setForeground(Color.GREEN);
+            boardBtn.setBackground(Color.BLACK);
+            boardBtn.setBorder(BorderFactory.createLineBorder(Color.GREEN, 2));
+            boardBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
+            boardBtn.addActionListener(e -> new LeaderboardDialog(dialog, leaderboard, difficulty,
+                    entry.getMaze()).setVisible(true));
+
+            panel.add(Box.createVerticalStrut(10));
+            panel.add(rankLabel);
+            panel.add(Box.createVerticalStrut(20));
+            panel.add(boardBtn);
+        }
+        if (canReplay) {
+            JButton replayBtn = new JButton("REPLAY");
+            replayBtn.setFont(new Font("Monospaced", Font.BOLD, 18));
+            replayBtn.setForeground(Color.GREEN);
+            replayBtn.setBackground(Color.BLACK);
+            replayBtn.setBorder(BorderFactory.createLineBorder(Color.GREEN, 2));
+            replayBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
+            replayBtn.addActionListener(e -> {
+                dialog.dispose();
+                startReplay();
+            });
+
+            panel.add(Box.createVerticalStrut(20));
+            panel.add(replayBtn);
+        }
         panel.add(Box.createVerticalStrut(30));
         panel.add(homeBtn);
         panel.add(Box.createVerticalStrut(20));
@@ -248,120 +745,260 @@ public class GamePanel extends JPanel {
         dialog.setVisible(true);
     }
 
+    @Override
+    public void doLayout() {
+        super.doLayout();
+        if (canvas != null) {
+            canvas.setBounds(0, CONTROL_HEIGHT, getWidth(), Math.max(0, getHeight() - CONTROL_HEIGHT));
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (gameLoop != null && stopNanos < 0) {
+            lastFrameNanos = System.nanoTime();
+            gameLoop.start();
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        // Normally stopped already by stopTimers. Joining here could deadlock, as this runs under the
+        // AWT tree lock, so the loop is only told to stop; it checks the canvas is displayable each frame.
+        if (gameLoop != null) {
+            gameLoop.requestStop();
+        }
+        super.removeNotify();
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawBackground(g2);
 
-        // Dark gradient background
-        GradientPaint bg = new GradientPaint(0, 0, new Color(10, 10, 30),
-                0, getHeight(), new Color(30, 10, 50));
-        g2.setPaint(bg);
-        g2.fillRect(0, 0, getWidth(), getHeight());
-
-        drawMaze(g2);
-        drawBall(g2);
+        // In game-loop mode the canvas shows the maze, so only the background beside the control bar is left
+        if (gameLoop == null) {
+            drawMaze(g2, getShownBallX(), getShownBallY());
+        }
     }
 
-    private void drawMaze(Graphics2D g2) {
-        int[][] maze = mazeGrid.getMaze();
-        int rows = maze.length;
-        int cols = maze[0].length;
+    // Active rendering for the game loop: frame-level bookkeeping, then a whole frame into the
+    // canvas's back buffer with the ball alpha of the way from its previous cell to its current one
+    private void renderFrame(double alpha) {
+        long now = System.nanoTime();
+        easeCamera(now - lastFrameNanos);
+        lastFrameNanos = now;
+        publishLabels();
+        if (finishDueNanos >= 0 && now >= finishDueNanos) {
+            finishDueNanos = -1;
+            SwingUtilities.invokeLater(this::showFinishMessage);
+        }
 
-        // Calculate cell size to fit on screen
-        int maxWidth = 950;
-        int maxHeight = 580;
-        int cellSize = Math.min(maxWidth / cols, maxHeight / rows);
-        cellSize = Math.max(cellSize, 15); // Minimum 15px
-        cellSize = Math.min(cellSize, 40); // Maximum 40px
+        int width = canvas.getWidth();
+        int height = canvas.getHeight();
+        if (width <= 0 || height <= 0 || !canvas.isDisplayable()) {
+            return;
+        }
+        // Fresh buffers whenever the canvas changes size
+        BufferStrategy strategy = canvas.getBufferStrategy();
+        if (strategy == null || width != bufferWidth || height != bufferHeight) {
+            canvas.createBufferStrategy(2);
+            strategy = canvas.getBufferStrategy();
+            bufferWidth = width;
+            bufferHeight = height;
+        }
 
-        int offsetX = (getWidth() - cols * cellSize) / 2;
-        int offsetY = 100;
-
-        // Draw glow border
-        g2.setColor(new Color(0, 255, 0, 30));
-        g2.fillRoundRect(offsetX - 10, offsetY - 10,
-                cols * cellSize + 20, rows * cellSize + 20, 15, 15);
-
-        for (int y = 0; y < rows; y++) {
-            for (int x = 0; x < cols; x++) {
-                int px = x * cellSize + offsetX;
-                int py = y * cellSize + offsetY;
-
-                if (maze[y][x] == 1) {
-                    // Wall (value = 1)
-                    g2.setColor(new Color(0, 180, 0));
-                    g2.fillRect(px, py, cellSize, cellSize);
-                    g2.setColor(new Color(0, 100, 0));
-                    g2.drawRect(px, py, cellSize, cellSize);
-                } else {
-                    // Path (value = 0, 2, or 3)
-                    g2.setColor(new Color(0, 30, 0));
-                    g2.fillRect(px, py, cellSize, cellSize);
-                    g2.setColor(new Color(0, 50, 0));
-                    g2.drawRect(px, py, cellSize, cellSize);
+        double ballX = prevBallX + (mazeGrid.getBallX() - prevBallX) * alpha;
+        double ballY = prevBallY + (mazeGrid.getBallY() - prevBallY) * alpha;
+        do {
+            do {
+                Graphics2D g2 = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    drawFrame(g2, ballX, ballY);
+                } finally {
+                    g2.dispose();
                 }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
 
-                // Start marker
-                if (maze[y][x] == 2) {
-                    g2.setColor(Color.CYAN);
-                    g2.fillOval(px + 3, py + 3, cellSize - 6, cellSize - 6);
-                }
+    // The labels are Swing components, so the loop hands them new values rather than setting them
+    private void publishLabels() {
+        int steps = mazeGrid.getSteps();
+        int distance = mazeGrid.getDistanceToExit();
+        long seconds = getElapsedSeconds();
+        if (steps == shownSteps && distance == shownDistance && seconds == shownSeconds) {
+            return;
+        }
+        shownSteps = steps;
+        shownDistance = distance;
+        shownSeconds = seconds;
+        SwingUtilities.invokeLater(() -> {
+            stepsLabel.setText("MOVES: " + steps);
+            distanceLabel.setText("EXIT: " + distance);
+            timerLabel.setText(formatTime(seconds));
+        });
+    }
 
-                // End marker
-                if (maze[y][x] == 3) {
-                    g2.setColor(Color.RED);
-                    g2.fillOval(px + 3, py + 3, cellSize - 6, cellSize - 6);
-                    g2.setColor(Color.YELLOW);
-                    g2.drawOval(px + 2, py + 2, cellSize - 4, cellSize - 4);
-                }
-            }
+    // Everything below the control bar in panel coordinates, for a canvas-sized graphics
+    private void drawFrame(Graphics2D g2, double ballX, double ballY) {
+        g2.translate(-canvas.getX(), -canvas.getY());
+        g2.clipRect(canvas.getX(), canvas.getY(), canvas.getWidth(), canvas.getHeight());
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawBackground(g2);
+        drawMaze(g2, ballX, ballY);
+    }
+
+    private void drawBackground(Graphics2D g2) {
+        int width = getWidth();
+        int height = getHeight();
+        BufferedImage layer = backgroundLayer;
+        if (layer == null || layer.getWidth() != width || layer.getHeight() != height) {
+            layer = renderBackground(width, height);
+            backgroundLayer = layer;
+        }
+        g2.drawImage(layer, 0, 0, null);
+    }
+
+    // Maze and ball, with the ball at grid position (ballX, ballY), which may lie between two cells
+    private void drawMaze(Graphics2D g2, double ballX, double ballY) {
+        int cellSize = mazeTiles.getCellSize();
+        Rectangle view = getViewport();
+        int originX = getOriginX(view, cellSize);
+        int originY = getOriginY(view, cellSize);
+
+        // A maze larger than the viewport is clipped to it; one that fits is drawn as it always was
+        Shape oldClip = g2.getClip();
+        if (isScrolling(view, cellSize)) {
+            g2.clipRect(view.x, view.y, view.width, view.height);
+        }
+        Rectangle visible = g2.getClipBounds();
+        if (visible == null) {
+            visible = new Rectangle(0, 0, getWidth(), getHeight());
         }
 
-        // Draw auto path if active
-        if (autoMode && autoPath != null && autoPath.size() > 1) {
-            g2.setColor(new Color(255, 255, 0, 100));
-            g2.setStroke(new BasicStroke(Math.max(2, cellSize / 8)));
+        if (isScrolling(view, cellSize)) {
+            drawGlow(g2, originX, originY, mazeGrid.getWidth() * cellSize, mazeGrid.getHeight() * cellSize);
+        }
+        mazeTiles.draw(g2, originX, originY, visible);
+        drawOverlay(g2, cellSize, originX, originY);
+        drawBall(g2, cellSize, originX + (int) Math.round(ballX * cellSize),
+                originY + (int) Math.round(ballY * cellSize));
+        g2.setClip(oldClip);
+    }
+
+    // Glow border around a scrolling maze, as plain strips since the camera only ever shows part of it
+    private void drawGlow(Graphics2D g2, int x, int y, int width, int height) {
+        g2.setColor(MAZE_GLOW);
+        g2.fillRect(x - GLOW_BORDER, y - GLOW_BORDER, width + 2 * GLOW_BORDER, GLOW_BORDER);
+        g2.fillRect(x - GLOW_BORDER, y + height, width + 2 * GLOW_BORDER, GLOW_BORDER);
+        g2.fillRect(x - GLOW_BORDER, y, GLOW_BORDER, height);
+        g2.fillRect(x + width, y, GLOW_BORDER, height);
+    }
 
-            // Draw the path up to current position
-            for (int i = 0; i < Math.min(autoIndex, autoPath.size() - 1); i++) {
-                int[] p1 = autoPath.get(i);
-                int[] p2 = autoPath.get(i + 1);
+    private BufferedImage renderBackground(int width, int height) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
 
-                // Calculate pixel positions for the center of each cell
-                int x1 = p1[0] * cellSize + offsetX + cellSize / 2;
-                int y1 = p1[1] * cellSize + offsetY + cellSize / 2;
-                int x2 = p2[0] * cellSize + offsetX + cellSize / 2;
-                int y2 = p2[1] * cellSize + offsetY + cellSize / 2;
+        Graphics2D g2 = image.createGraphics();
+        try {
+            // Dark gradient background
+            g2.setPaint(new GradientPaint(0, 0, BACKGROUND_TOP, 0, height, BACKGROUND_BOTTOM));
+            g2.fillRect(0, 0, width, height);
 
-                g2.drawLine(x1, y1, x2, y2);
+            // A maze that fits never moves, so its glow border is part of the background too
+            int cellSize = mazeTiles.getCellSize();
+            Rectangle view = getViewport();
+            if (!isScrolling(view, cellSize)) {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setColor(MAZE_GLOW);
+                g2.fillRoundRect(getOriginX(view, cellSize) - GLOW_BORDER, getOriginY(view, cellSize) - GLOW_BORDER,
+                        mazeGrid.getWidth() * cellSize + 2 * GLOW_BORDER,
+                        mazeGrid.getHeight() * cellSize + 2 * GLOW_BORDER, 15, 15);
             }
+        } finally {
+            g2.dispose();
         }
+        return image;
     }
 
-    private void drawBall(Graphics2D g2) {
-        int[][] maze = mazeGrid.getMaze();
-        int rows = maze.length;
-        int cols = maze[0].length;
-
-        // Calculate cell size same as in drawMaze
+    // Calculate cell size to fit on screen
+    private static int fitCellSize(MazeGrid mazeGrid) {
         int maxWidth = 950;
         int maxHeight = 580;
-        int cellSize = Math.min(maxWidth / cols, maxHeight / rows);
-        cellSize = Math.max(cellSize, 15);
-        cellSize = Math.min(cellSize, 40);
+        int cellSize = Math.min(maxWidth / mazeGrid.getWidth(), maxHeight / mazeGrid.getHeight());
+        cellSize = Math.max(cellSize, 15); // Minimum 15px
+        cellSize = Math.min(cellSize, 40); // Maximum 40px
+        return cellSize;
+    }
+
+    // Area below the control bar that a scrolling maze is shown in
+    private Rectangle getViewport() {
+        int top = MAZE_OFFSET_Y - 2 * GLOW_BORDER;
+        return new Rectangle(VIEW_MARGIN, top, getWidth() - 2 * VIEW_MARGIN, getHeight() - top - VIEW_MARGIN);
+    }
 
-        int offsetX = (getWidth() - cols * cellSize) / 2;
-        int offsetY = 100;
+    private boolean isScrolling(Rectangle view, int cellSize) {
+        return !fitsHorizontally(view, cellSize) || !fitsVertically(view, cellSize);
+    }
+
+    private boolean fitsHorizontally(Rectangle view, int cellSize) {
+        return mazeGrid.getWidth() * cellSize <= view.width;
+    }
 
-        // Get ball position in grid coordinates
-        int ballGridX = mazeGrid.getBallX();
-        int ballGridY = mazeGrid.getBallY();
+    private boolean fitsVertically(Rectangle view, int cellSize) {
+        return MAZE_OFFSET_Y + mazeGrid.getHeight() * cellSize <= view.y + view.height;
+    }
+
+    // Screen position of maze cell (0, 0) on each axis
+    private int getOriginX(Rectangle view, int cellSize) {
+        int mazeWidth = mazeGrid.getWidth() * cellSize;
+        if (fitsHorizontally(view, cellSize)) {
+            return (getWidth() - mazeWidth) / 2;
+        }
+        return view.x + view.width / 2 - (int) Math.round(clampCamera(cameraX, mazeWidth, view.width));
+    }
+
+    private int getOriginY(Rectangle view, int cellSize) {
+        if (fitsVertically(view, cellSize)) {
+            return MAZE_OFFSET_Y;
+        }
+        int mazeHeight = mazeGrid.getHeight() * cellSize;
+        return view.y + view.height / 2 - (int) Math.round(clampCamera(cameraY, mazeHeight, view.height));
+    }
+
+    // Keeps the viewport over the maze and its glow border
+    private static double clampCamera(double centre, int mazeSize, int viewSize) {
+        double half = viewSize / 2.0;
+        return Math.max(half - GLOW_BORDER, Math.min(mazeSize - half + GLOW_BORDER, centre));
+    }
+
+    // Per-frame layer on top of the cached maze; the auto-solve trail lives in the tiles
+    private void drawOverlay(Graphics2D g2, int cellSize, int offsetX, int offsetY) {
+        // Highlight the hinted next move
+        if (hintCell != null) {
+            int px = hintCell[0] * cellSize + offsetX;
+            int py = hintCell[1] * cellSize + offsetY;
+            g2.setColor(HINT_FILL);
+            g2.fillRect(px, py, cellSize, cellSize);
+        }
+    }
 
+    // (cellX, cellY) is the top-left pixel of the cell the ball is drawn in
+    private void drawBall(Graphics2D g2, int cellSize, int cellX, int cellY) {
         // Convert to pixel coordinates (center of cell)
-        int ballX = ballGridX * cellSize + offsetX + cellSize / 2;
-        int ballY = ballGridY * cellSize + offsetY + cellSize / 2;
+        int ballX = cellX + cellSize / 2;
+        int ballY = cellY + cellSize / 2;
         int ballSize = Math.max(cellSize - 10, 12);
 
         // Glow effect
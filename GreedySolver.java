@@ -0,0 +1,13 @@
+// Greedy best-first search: always expands the cell closest to the goal by Manhattan distance.
+// Usually expands the fewest cells, but the path it returns is not guaranteed to be shortest.
+public class GreedySolver extends HeuristicSolver {
+    @Override
+    public String getName() {
+        return "Greedy";
+    }
+
+    @Override
+    protected long priority(int g, int h) {
+        return h;
+    }
+}
@@ -0,0 +1,93 @@
+import java.util.Arrays;
+
+// Best-first search over a WallGrid driven by a Manhattan-distance heuristic and a primitive
+// binary heap. Subclasses decide how the cost so far and the heuristic combine into a priority.
+public abstract class HeuristicSolver implements PathSolver {
+    private final MinHeap open = new MinHeap();
+    private int[] parent = new int[0];
+    private int[] cost = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private int stamp = 0;
+
+    // Smaller values are expanded first; g is the cost so far, h the Manhattan distance to goal
+    protected abstract long priority(int g, int h);
+
+    @Override
+    public SolveResult solve(WallGrid walls, int start, int goal) {
+        long startTime = System.nanoTime();
+        int cellCount = walls.getCellCount();
+        ensureCapacity(cellCount);
+        nextStamp();
+        open.clear();
+
+        if (walls.isWall(start) || walls.isWall(goal)) {
+            return SolveResult.noPath(getName(), 0, 0, System.nanoTime() - startTime);
+        }
+
+        int width = walls.getWidth();
+        int lastRow = cellCount - width;
+        int goalX = goal % width;
+        int goalY = goal / width;
+
+        seen[start] = stamp;
+        cost[start] = 0;
+        parent[start] = -1;
+        open.push(priority(0, Math.abs(start % width - goalX) + Math.abs(start / width - goalY)), start);
+
+        int expanded = 0;
+        int peakFrontier = 1;
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (closed[cell] == stamp) continue;  // stale duplicate
+            closed[cell] = stamp;
+            expanded++;
+
+            if (cell == goal) {
+                return new SolveResult(getName(), SolveResult.tracePath(parent, goal),
+                        expanded, peakFrontier, System.nanoTime() - startTime);
+            }
+
+            int x = cell % width;
+            int g = cost[cell] + 1;
+            if (cell >= width) relax(walls, cell, cell - width, g, goalX, goalY, width);  // up
+            if (cell < lastRow) relax(walls, cell, cell + width, g, goalX, goalY, width); // down
+            if (x > 0) relax(walls, cell, cell - 1, g, goalX, goalY, width);              // left
+            if (x < width - 1) relax(walls, cell, cell + 1, g, goalX, goalY, width);      // right
+            peakFrontier = Math.max(peakFrontier, open.size());
+        }
+
+        return SolveResult.noPath(getName(), expanded, peakFrontier, System.nanoTime() - startTime);
+    }
+
+    private void relax(WallGrid walls, int from, int next, int g, int goalX, int goalY, int width) {
+        if (closed[next] == stamp || walls.isWall(next)) return;
+        if (seen[next] == stamp && cost[next] <= g) return;
+
+        seen[next] = stamp;
+        cost[next] = g;
+        parent[next] = from;
+        int h = Math.abs(next % width - goalX) + Math.abs(next / width - goalY);
+        open.push(priority(g, h), next);
+    }
+
+    private void ensureCapacity(int cellCount) {
+        if (parent.length < cellCount) {
+            parent = new int[cellCount];
+            cost = new int[cellCount];
+            seen = new int[cellCount];
+            closed = new int[cellCount];
+            stamp = 0;
+        }
+    }
+
+    // A fresh stamp marks every cell unseen and open without clearing the arrays
+    private void nextStamp() {
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            stamp = 1;
+        }
+    }
+}
@@ -2,6 +2,12 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 public class HomePanel extends JPanel {
     private MazeSolver mainFrame;
@@ -11,10 +17,19 @@ public class HomePanel extends JPanel {
     private int mazeStartX, mazeStartY;
     private int cellSize = 40;
     private int[][] miniMaze;
-    private int animationCounter = 0;
+    private javax.swing.Timer animTimer;
+
+    // Gradient, grid, title, mini maze and instructions never change, so they are rendered once
+    // per panel size and each frame only composites the ball on top
+    private BufferedImage staticLayer;
+
+    // Give up on a maze that is still generating after this long
+    private static final Duration GENERATION_DEADLINE = Duration.ofSeconds(60);
 
     // Track mode selection
     private boolean isAutoMode = false;
+    private SolverType solverType = SolverType.BFS;
+    private boolean isDailyMode = false;
 
     // Background panel
     private JPanel backgroundPanel;
@@ -44,7 +59,20 @@ public class HomePanel extends JPanel {
         setupLayeredPanels();
 
         // Ball animation
-        startBallAnimation();
+        createBallAnimation();
+    }
+
+    // The ball only animates while the panel is showing; every return home builds a new HomePanel
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        animTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        animTimer.stop();
+        super.removeNotify();
     }
 
     private void setupLayeredPanels() {
@@ -82,7 +110,7 @@ public class HomePanel extends JPanel {
     }
 
     private void createButtons() {
-        System.out.println("Creating buttons...");
+        MazeLog.debug("Creating buttons...");
 
         // Mode selection buttons
         JButton autoBtn = createSimpleButton("AUTO PLAY", 300, 480, 180, 60);
@@ -95,7 +123,7 @@ public class HomePanel extends JPanel {
         autoBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("AUTO PLAY CLICKED!");
+                MazeLog.debug("AUTO PLAY CLICKED!");
                 isAutoMode = true;
                 autoBtn.setBackground(new Color(0, 100, 0));
                 manualBtn.setBackground(Color.BLACK);
@@ -106,7 +134,7 @@ public class HomePanel extends JPanel {
         manualBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("MANUAL PLAY CLICKED!");
+                MazeLog.debug("MANUAL PLAY CLICKED!");
                 isAutoMode = false;
                 manualBtn.setBackground(new Color(0, 100, 0));
                 autoBtn.setBackground(Color.BLACK);
@@ -114,6 +142,28 @@ public class HomePanel extends JPanel {
             }
         });
 
+        // Solver engine used by auto play; each click cycles to the next one
+        JButton solverBtn = createSimpleButton("SOLVER: " + solverType.getLabel(), 740, 480, 200, 60);
+        solverBtn.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                SolverType[] types = SolverType.values();
+                solverType = types[(solverType.ordinal() + 1) % types.length];
+                solverBtn.setText("SOLVER: " + solverType.getLabel());
+            }
+        });
+
+        // Daily mode plays today's maze of each difficulty, the same one for every player
+        JButton dailyBtn = createSimpleButton("DAILY: OFF", 960, 480, 160, 60);
+        dailyBtn.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                isDailyMode = !isDailyMode;
+                dailyBtn.setText(isDailyMode ? "DAILY: ON" : "DAILY: OFF");
+                dailyBtn.setBackground(isDailyMode ? new Color(0, 100, 0) : Color.BLACK);
+            }
+        });
+
         // Difficulty buttons
         int diffY = 570;
         int diffSpacing = 155;
@@ -127,7 +177,7 @@ public class HomePanel extends JPanel {
         easyBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("EASY CLICKED!");
+                MazeLog.debug("EASY CLICKED!");
                 startGame(Difficulty.EASY);
             }
         });
@@ -135,7 +185,7 @@ public class HomePanel extends JPanel {
         mediumBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("MEDIUM CLICKED!");
+                MazeLog.debug("MEDIUM CLICKED!");
                 startGame(Difficulty.MEDIUM);
             }
         });
@@ -143,7 +193,7 @@ public class HomePanel extends JPanel {
         hardBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("HARD CLICKED!");
+                MazeLog.debug("HARD CLICKED!");
                 startGame(Difficulty.HARD);
             }
         });
@@ -151,20 +201,34 @@ public class HomePanel extends JPanel {
         expertBtn.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("EXPERT CLICKED!");
+                MazeLog.debug("EXPERT CLICKED!");
                 startGame(Difficulty.EXPERT);
             }
         });
 
+        // Best runs so far
+        JButton leaderboardBtn = createSimpleButton("LEADERBOARD", startX + diffSpacing * 4, diffY, 160, 55);
+        leaderboardBtn.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                MazeLog.debug("LEADERBOARD CLICKED!");
+                new LeaderboardDialog(SwingUtilities.getWindowAncestor(HomePanel.this),
+                        mainFrame.getLeaderboard()).setVisible(true);
+            }
+        });
+
         // Add buttons to button panel
         buttonPanel.add(autoBtn);
         buttonPanel.add(manualBtn);
+        buttonPanel.add(solverBtn);
+        buttonPanel.add(dailyBtn);
         buttonPanel.add(easyBtn);
         buttonPanel.add(mediumBtn);
         buttonPanel.add(hardBtn);
         buttonPanel.add(expertBtn);
+        buttonPanel.add(leaderboardBtn);
 
-        System.out.println("Buttons created and added!");
+        MazeLog.debug("Buttons created and added!");
     }
 
     private JButton createSimpleButton(String text, int x, int y, int w, int h) {
@@ -184,7 +248,9 @@ public class HomePanel extends JPanel {
 
             @Override
             public void mouseEntered(MouseEvent e) {
-                System.out.println("Mouse entered: " + text);
+                if (MazeLog.isDebugEnabled()) {
+                    MazeLog.debug("Mouse entered: " + text);
+                }
                 btn.setBorder(BorderFactory.createLineBorder(Color.CYAN, 3));
             }
 
@@ -195,12 +261,16 @@ public class HomePanel extends JPanel {
 
             @Override
             public void mousePressed(MouseEvent e) {
-                System.out.println("Mouse PRESSED: " + text);
+                if (MazeLog.isDebugEnabled()) {
+                    MazeLog.debug("Mouse PRESSED: " + text);
+                }
             }
 
             @Override
             public void mouseReleased(MouseEvent e) {
-                System.out.println("Mouse RELEASED: " + text);
+                if (MazeLog.isDebugEnabled()) {
+                    MazeLog.debug("Mouse RELEASED: " + text);
+                }
             }
         });
 
@@ -209,21 +279,44 @@ public class HomePanel extends JPanel {
 
     // ========== FIXED startGame METHOD - THIS PREVENTS FREEZING ==========
     private void startGame(Difficulty difficulty) {
-        System.out.println("========================================");
-        System.out.println("STARTING GAME");
-        System.out.println("Difficulty: " + difficulty);
-        System.out.println("Auto Mode: " + isAutoMode);
-        System.out.println("========================================");
+        MazeLog.info("STARTING GAME - Difficulty: " + difficulty + ", Auto Mode: " + isAutoMode
+                + ", Daily: " + isDailyMode);
+        MazeKey dailyKey = isDailyMode ? MazeKey.daily(difficulty, LocalDate.now()) : null;
+
+        // Pooled and cached mazes start instantly, no loading dialog needed
+        MazeGrid ready = dailyKey != null
+                ? mainFrame.getMazeCache().getIfPresent(dailyKey)
+                : mainFrame.getMazePool().poll(difficulty);
+        if (ready != null) {
+            mainFrame.startGame("Player", ready, isAutoMode, solverType);
+            return;
+        }
 
-        // Create loading dialog
+        // Create loading dialog with real progress and a cancel button
         JDialog loadingDialog = new JDialog(mainFrame, "Loading...", false);
+        JPanel loadingPanel = new JPanel(new BorderLayout(0, 10));
+        loadingPanel.setBackground(Color.BLACK);
+        loadingPanel.setBorder(BorderFactory.createEmptyBorder(20, 40, 20, 40));
+
         JLabel loadingLabel = new JLabel("Generating " + difficulty + " maze...", SwingConstants.CENTER);
         loadingLabel.setFont(new Font("Monospaced", Font.BOLD, 16));
         loadingLabel.setForeground(Color.GREEN);
-        loadingLabel.setBackground(Color.BLACK);
-        loadingLabel.setOpaque(true);
-        loadingLabel.setBorder(BorderFactory.createEmptyBorder(20, 40, 20, 40));
-        loadingDialog.add(loadingLabel);
+        loadingPanel.add(loadingLabel, BorderLayout.NORTH);
+
+        JProgressBar progressBar = new JProgressBar(0, MazeBuildPhase.values().length);
+        progressBar.setForeground(Color.GREEN);
+        progressBar.setBackground(Color.BLACK);
+        loadingPanel.add(progressBar, BorderLayout.CENTER);
+
+        JButton cancelBtn = new JButton("CANCEL");
+        cancelBtn.setFont(new Font("Monospaced", Font.BOLD, 14));
+        cancelBtn.setForeground(Color.GREEN);
+        cancelBtn.setBackground(Color.BLACK);
+        cancelBtn.setBorder(BorderFactory.createLineBorder(Color.GREEN, 2));
+        cancelBtn.setFocusPainted(false);
+        loadingPanel.add(cancelBtn, BorderLayout.SOUTH);
+
+        loadingDialog.add(loadingPanel);
         loadingDialog.pack();
         loadingDialog.setLocationRelativeTo(mainFrame);
 
@@ -239,77 +332,93 @@ public class HomePanel extends JPanel {
         mainFrame.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
         loadingDialog.setVisible(true);
 
-        // Create maze in background thread using SwingWorker
-        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
+        // Generate off the EDT; progress callbacks hop back onto it
+        MazeBuildListener progress = (phase, attempt, maxAttempts) -> SwingUtilities.invokeLater(() -> {
+            loadingLabel.setText(phase.name().replace('_', ' ') + " (attempt " + attempt + "/" + maxAttempts + ")");
+            progressBar.setValue(phase.ordinal() + 1);
+        });
+        CompletableFuture<MazeGrid> future = dailyKey != null
+                ? mainFrame.getMazeService().generate(dailyKey, progress, GENERATION_DEADLINE)
+                : mainFrame.getMazeService().generate(difficulty, progress, GENERATION_DEADLINE);
+
+        cancelBtn.addActionListener(e -> future.cancel(true));
+        loadingDialog.addWindowListener(new WindowAdapter() {
             @Override
-            protected Void doInBackground() throws Exception {
-                // Small delay to ensure UI updates are visible
-                Thread.sleep(100);
-                return null;
+            public void windowClosing(WindowEvent e) {
+                future.cancel(true);
             }
+        });
 
-            @Override
-            protected void done() {
-                try {
-                    // This runs on EDT after background work is done
-                    mainFrame.startGame("Player", difficulty, isAutoMode);
-                } catch (Exception ex) {
-                    System.err.println("ERROR STARTING GAME:");
-                    ex.printStackTrace();
-
-                    // Re-enable buttons on error
-                    for (Component comp : components) {
-                        if (comp instanceof JButton) {
-                            comp.setEnabled(true);
-                        }
-                    }
-
-                    JOptionPane.showMessageDialog(HomePanel.this,
-                            "Error: " + ex.getMessage(),
-                            "Error",
-                            JOptionPane.ERROR_MESSAGE);
-                } finally {
-                    // Always clean up
-                    loadingDialog.dispose();
-                    mainFrame.setCursor(Cursor.getDefaultCursor());
+        future.whenComplete((maze, error) -> SwingUtilities.invokeLater(() -> {
+            // Always clean up
+            loadingDialog.dispose();
+            mainFrame.setCursor(Cursor.getDefaultCursor());
+
+            if (error == null) {
+                if (dailyKey != null) {
+                    mainFrame.getMazeCache().put(dailyKey, maze);
                 }
+                mainFrame.startGame("Player", maze, isAutoMode, solverType);
+                return;
             }
-        };
 
-        worker.execute();
+            // Re-enable buttons on error or cancel
+            for (Component comp : components) {
+                if (comp instanceof JButton) {
+                    comp.setEnabled(true);
+                }
+            }
+
+            if (!(error instanceof CancellationException)) {
+                MazeLog.error("ERROR STARTING GAME:", error);
+
+                String message = error instanceof TimeoutException
+                        ? "Maze generation took too long"
+                        : error.getMessage();
+                JOptionPane.showMessageDialog(HomePanel.this,
+                        "Error: " + message,
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE);
+            }
+        }));
     }
     // ======================================================================
 
-    private void startBallAnimation() {
-        javax.swing.Timer animTimer = new javax.swing.Timer(300, new ActionListener() {
+    // The ball moves every 600 ms; waking up in between would only redraw the same picture
+    private void createBallAnimation() {
+        animTimer = new javax.swing.Timer(600, new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                animationCounter++;
-
-                if (animationCounter % 2 == 0) {
-                    int nextX = ballX + dx;
-                    int nextY = ballY + dy;
-
-                    if (nextX < 0 || nextX >= 6 || miniMaze[ballY][nextX] == 1) {
-                        dx = -dx;
-                        nextX = ballX + dx;
-                    }
-
-                    if (nextY < 0 || nextY >= 6 || miniMaze[nextY][ballX] == 1) {
-                        dy = -dy;
-                        nextY = ballY + dy;
-                    }
-
-                    if (nextX >= 0 && nextX < 6 && nextY >= 0 && nextY < 6 && miniMaze[nextY][nextX] == 0) {
-                        ballX = nextX;
-                        ballY = nextY;
-                    }
+                int nextX = ballX + dx;
+                int nextY = ballY + dy;
+
+                if (nextX < 0 || nextX >= 6 || miniMaze[ballY][nextX] == 1) {
+                    dx = -dx;
+                    nextX = ballX + dx;
+                }
+
+                if (nextY < 0 || nextY >= 6 || miniMaze[nextY][ballX] == 1) {
+                    dy = -dy;
+                    nextY = ballY + dy;
                 }
 
-                backgroundPanel.repaint();
+                if (nextX >= 0 && nextX < 6 && nextY >= 0 && nextY < 6 && miniMaze[nextY][nextX] == 0) {
+                    // Only the ball's old and new spots need drawing again
+                    Rectangle dirty = getBallBounds();
+                    ballX = nextX;
+                    ballY = nextY;
+                    dirty.add(getBallBounds());
+                    backgroundPanel.repaint(dirty);
+                }
             }
         });
-        animTimer.start();
+    }
+
+    // Matches the ball drawing in paintBackground: the glow reaches 6 px past the ball
+    private Rectangle getBallBounds() {
+        int pixelX = mazeStartX + ballX * cellSize;
+        int pixelY = mazeStartY + ballY * cellSize;
+        return new Rectangle(pixelX - 6, pixelY - 6, ballSize + 13, ballSize + 13);
     }
 
     private void paintBackground(Graphics g) {
@@ -318,7 +427,43 @@ public class HomePanel extends JPanel {
 
         int width = getWidth();
         int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+            staticLayer = renderStaticLayer(width, height);
+        }
+        g2.drawImage(staticLayer, 0, 0, null);
+
+        // Animated ball
+        int pixelX = mazeStartX + ballX * cellSize;
+        int pixelY = mazeStartY + ballY * cellSize;
 
+        for (int i = 3; i > 0; i--) {
+            g2.setColor(new Color(255, 255, 0, 50 * i));
+            g2.fillOval(pixelX - i * 2, pixelY - i * 2, ballSize + i * 4, ballSize + i * 4);
+        }
+        g2.setColor(Color.YELLOW);
+        g2.fillOval(pixelX, pixelY, ballSize, ballSize);
+    }
+
+    private BufferedImage renderStaticLayer(int width, int height) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            drawStaticLayer(g2, width, height);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    private void drawStaticLayer(Graphics2D g2, int width, int height) {
         // Dark gradient background
         GradientPaint bg = new GradientPaint(0, 0, new Color(10, 10, 30),
                 0, height, new Color(30, 10, 50));
@@ -347,17 +492,6 @@ public class HomePanel extends JPanel {
         // Draw mini maze
         drawMiniMaze(g2, mazeStartX, mazeStartY, 6, 6, cellSize);
 
-        // Animated ball
-        int pixelX = mazeStartX + ballX * cellSize;
-        int pixelY = mazeStartY + ballY * cellSize;
-
-        for (int i = 3; i > 0; i--) {
-            g2.setColor(new Color(255, 255, 0, 50 * i));
-            g2.fillOval(pixelX - i * 2, pixelY - i * 2, ballSize + i * 4, ballSize + i * 4);
-        }
-        g2.setColor(Color.YELLOW);
-        g2.fillOval(pixelX, pixelY, ballSize, ballSize);
-
         // Instructions
         g2.setFont(new Font("Monospaced", Font.BOLD, 16));
         g2.setColor(new Color(100, 255, 100));
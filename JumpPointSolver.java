@@ -0,0 +1,262 @@
+import java.util.Arrays;
+
+// Jump Point Search for 4-connected grids, searched with A* over jump points.
+//
+// Canonical ordering: a vertical run may turn horizontal anywhere, but a horizontal run only
+// turns vertical where it has to, i.e. where the cell beside the previous cell is blocked
+// (otherwise turning one cell earlier gives a path of the same length). Horizontal jumps
+// therefore stop only at the goal or at such forced turns, and vertical jumps stop where a
+// horizontal jump to the left or right would find one. Every straight run in between is skipped.
+//
+// Search states are (cell, arrival direction) because the pruned successor set depends on
+// the direction, which keeps the result exactly as short as BfsSolver's.
+//
+// Runs are not rescanned (JPS+ style): where the run from a cell in a direction stops, apart from
+// the goal, does not depend on the query, so it is stored in a per-cell table the first time any
+// walk over that run needs it, for every cell the walk passes. The table is kept across solves
+// until the solver is given different walls, so each run is walked at most once per grid and
+// only the runs a search actually reaches are ever walked. A jump is then a table read plus a
+// check whether the run passes the goal.
+public class JumpPointSolver implements PathSolver {
+    private static final int UP = 0, DOWN = 1, LEFT = 2, RIGHT = 3;
+    private static final int DIRECTIONS = 4;
+
+    private final MinHeap open = new MinHeap();
+    private int[] cost = new int[0];
+    private int[] parent = new int[0];
+    private int[] mark = new int[0];
+    private int openMark = 0;
+
+    // Per grid: jumps[cell * 4 + dir] is the distance to the run's jump point if positive, minus
+    // the number of open cells before the wall if not, or UNKNOWN until first needed
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    private int[] jumps = new int[0];
+    // Copy of the walls the table was filled for
+    private WallGrid tableWalls;
+
+    // Per-solve state shared by the jump helpers
+    private WallGrid walls;
+    private int width, height;
+    private int start, goal, goalX, goalY;
+
+    @Override
+    public String getName() {
+        return "JPS";
+    }
+
+    @Override
+    public SolveResult solve(WallGrid walls, int start, int goal) {
+        long startTime = System.nanoTime();
+        ensureCapacity(walls.getCellCount() * DIRECTIONS);
+        nextMark();
+        open.clear();
+
+        if (walls.isWall(start) || walls.isWall(goal)) {
+            return SolveResult.noPath(getName(), 0, 0, System.nanoTime() - startTime);
+        }
+        if (start == goal) {
+            return new SolveResult(getName(), new int[]{start}, 1, 1, System.nanoTime() - startTime);
+        }
+
+        this.walls = walls;
+        this.width = walls.getWidth();
+        this.height = walls.getHeight();
+        this.start = start;
+        this.goal = goal;
+        this.goalX = goal % width;
+        this.goalY = goal / width;
+        ensureTable(walls);
+
+        try {
+            // The start has no arrival direction, so it jumps every way
+            for (int dir = 0; dir < DIRECTIONS; dir++) {
+                push(start, -1, 0, dir);
+            }
+
+            int expanded = 1;
+            int peakFrontier = open.size();
+            while (!open.isEmpty()) {
+                int state = open.pop();
+                if (mark[state] == openMark + 1) continue;  // already closed
+                mark[state] = openMark + 1;
+                expanded++;
+
+                int cell = state / DIRECTIONS;
+                int dir = state % DIRECTIONS;
+                if (cell == goal) {
+                    return new SolveResult(getName(), buildPath(state), expanded, peakFrontier,
+                            System.nanoTime() - startTime);
+                }
+
+                int g = cost[state];
+                push(cell, state, g, dir);
+                if (dir == LEFT || dir == RIGHT) {
+                    int x = cell % width;
+                    int y = cell / width;
+                    int back = dir == LEFT ? 1 : -1;
+                    if (isForced(x, y, x + back, -1)) push(cell, state, g, UP);
+                    if (isForced(x, y, x + back, 1)) push(cell, state, g, DOWN);
+                } else {
+                    push(cell, state, g, LEFT);
+                    push(cell, state, g, RIGHT);
+                }
+                peakFrontier = Math.max(peakFrontier, open.size());
+            }
+
+            return SolveResult.noPath(getName(), expanded, peakFrontier, System.nanoTime() - startTime);
+        } finally {
+            this.walls = null;
+        }
+    }
+
+    private void push(int from, int parentState, int g, int dir) {
+        int jumpPoint = jump(from, dir);
+        if (jumpPoint < 0) return;
+
+        int state = jumpPoint * DIRECTIONS + dir;
+        if (mark[state] == openMark + 1) return;
+
+        int jx = jumpPoint % width;
+        int jy = jumpPoint / width;
+        int ng = g + Math.abs(jx - from % width) + Math.abs(jy - from / width);
+        if (mark[state] == openMark && cost[state] <= ng) return;
+
+        mark[state] = openMark;
+        cost[state] = ng;
+        parent[state] = parentState;
+        int h = Math.abs(jx - goalX) + Math.abs(jy - goalY);
+        open.push(((long) (ng + h) << 32) | h, state);
+    }
+
+    // First jump point reached from cell in dir, or -1 if the run hits a wall first
+    private int jump(int cell, int dir) {
+        int d = entry(cell, dir);
+        int x = cell % width;
+        int y = cell / width;
+
+        if (dir == LEFT || dir == RIGHT) {
+            // The goal stops a horizontal run that reaches it no later than its own jump point
+            if (y == goalY && (dir == LEFT ? goalX < x : goalX > x) && Math.abs(goalX - x) <= Math.abs(d)) {
+                return goal;
+            }
+            return d > 0 ? cell + (dir == LEFT ? -d : d) : -1;
+        }
+
+        // A vertical run also stops on the goal's row if a horizontal jump from there reaches it
+        int step = dir == UP ? -width : width;
+        int toGoalRow = dir == UP ? y - goalY : goalY - y;
+        if (toGoalRow > 0 && toGoalRow <= Math.abs(d)) {
+            int crossing = cell + toGoalRow * step;
+            int crossingX = crossing % width;
+            if (crossing == goal
+                    || Math.abs(goalX - crossingX) <= Math.abs(entry(crossing, goalX < crossingX ? LEFT : RIGHT))) {
+                return crossing;
+            }
+        }
+        return d > 0 ? cell + d * step : -1;
+    }
+
+    // Table entry of cell in dir. On a miss the run is walked until it is blocked, stops one step
+    // on, or joins a run already known, and every cell walked gets its entry.
+    private int entry(int cell, int dir) {
+        int known = jumps[cell * DIRECTIONS + dir];
+        if (known != UNKNOWN) return known;
+
+        int step = dir == UP ? -width : dir == DOWN ? width : dir == LEFT ? -1 : 1;
+        // Steps left before the run leaves the grid
+        int room = dir == UP ? cell / width : dir == DOWN ? height - 1 - cell / width
+                : dir == LEFT ? cell % width : width - 1 - cell % width;
+        boolean horizontal = dir == LEFT || dir == RIGHT;
+        boolean hasUp = cell >= width;
+        boolean hasDown = cell < (height - 1) * width;
+
+        int at = cell;
+        int walked = 0;
+        int value;
+        while (true) {
+            int next = at + step;
+            if (walked == room || walls.isWall(next)) {
+                value = 0;
+                break;
+            }
+            // Horizontal runs stop at forced turns, vertical ones where a horizontal run has a jump point
+            if (horizontal
+                    ? hasUp && !walls.isWall(next - width) && walls.isWall(at - width)
+                            || hasDown && !walls.isWall(next + width) && walls.isWall(at + width)
+                    : entry(next, LEFT) > 0 || entry(next, RIGHT) > 0) {
+                value = 1;
+                break;
+            }
+            int after = jumps[next * DIRECTIONS + dir];
+            if (after != UNKNOWN) {
+                value = after > 0 ? after + 1 : after - 1;
+                break;
+            }
+            at = next;
+            walked++;
+        }
+
+        // Cells before the resolved one are that many steps further from the same stop
+        for (int i = 0; i <= walked; i++, at -= step) {
+            jumps[at * DIRECTIONS + dir] = value > 0 ? value + i : value - i;
+        }
+        return jumps[cell * DIRECTIONS + dir];
+    }
+
+    private void ensureTable(WallGrid grid) {
+        if (tableWalls != null && tableWalls.sameWalls(grid)) {
+            return;
+        }
+        int entries = grid.getCellCount() * DIRECTIONS;
+        if (jumps.length < entries) {
+            jumps = new int[entries];
+        }
+        Arrays.fill(jumps, 0, entries, UNKNOWN);
+
+        if (tableWalls == null || tableWalls.getWidth() != width || tableWalls.getHeight() != height) {
+            tableWalls = new WallGrid(width, height);
+        }
+        tableWalls.copyFrom(grid);
+    }
+
+    // A horizontal run at (x, y) coming from (prevX, y) must turn vertically by dy here
+    private boolean isForced(int x, int y, int prevX, int dy) {
+        return walls.isOpen(x, y + dy) && !walls.isOpen(prevX, y + dy);
+    }
+
+    // Expands the chain of jump points back to the start into every cell along the way
+    private int[] buildPath(int goalState) {
+        int length = cost[goalState] + 1;
+        int[] path = new int[length];
+        int i = length - 1;
+        path[i] = goal;
+
+        for (int state = goalState; state != -1; state = parent[state]) {
+            int to = state / DIRECTIONS;
+            int from = parent[state] == -1 ? start : parent[state] / DIRECTIONS;
+            int step = Math.abs(to - from) < width ? Integer.signum(to - from) : Integer.signum(to - from) * width;
+            for (int cell = to - step; cell != from - step; cell -= step) {
+                path[--i] = cell;
+            }
+        }
+        return path;
+    }
+
+    private void ensureCapacity(int stateCount) {
+        if (mark.length < stateCount) {
+            cost = new int[stateCount];
+            parent = new int[stateCount];
+            mark = new int[stateCount];
+            openMark = 0;
+        }
+    }
+
+    // Each solve uses two fresh marks: openMark for seen states and openMark + 1 for closed ones
+    private void nextMark() {
+        openMark += 2;
+        if (openMark >= Integer.MAX_VALUE - 1) {
+            Arrays.fill(mark, 0);
+            openMark = 2;
+        }
+    }
+}
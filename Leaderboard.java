@@ -0,0 +1,753 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+// Finished runs, kept in an append-only log of checksummed records and ranked in memory by
+// Difficulty and by maze
+public class Leaderboard implements Closeable {
+    public static final int TOP_PER_DIFFICULTY = 100;
+    public static final int TOP_PER_SEED = 10;
+    public static final int MAX_NAME_LENGTH = 32;
+
+    private static final int BATCH_SIZE = 64;
+    private static final long BATCH_DELAY_MILLIS = 1000;
+
+    private static final int MAGIC = 0x424C5A4D; // "MZLB" read little-endian
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int FIXED_PAYLOAD_BYTES = 32;
+    private static final int SHAPE_BYTES = 32;
+    private static final int MAX_PAYLOAD_BYTES = FIXED_PAYLOAD_BYTES + SHAPE_BYTES + MAX_NAME_LENGTH * 3;
+    private static final int RECORD_OVERHEAD = 8;
+    private static final byte FLAG_SEEDED = 1;
+    private static final byte FLAG_SHAPED = 2;
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+
+    // A kind is the Difficulty ordinal, plus KIND_SEEDED if the result has a seed
+    private static final int KIND_SEEDED = 0x80;
+    private static final int NO_RESULT = -1;
+    private static final int NO_SHAPE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NAME_CACHE_BITS = 10;
+
+    // Bits of a score below the time; both limits are far beyond any real game
+    private static final int MOVE_BITS = 26;
+    public static final int MAX_MOVES = (1 << MOVE_BITS) - 1;
+    public static final long MAX_TIME_MILLIS = (1L << (63 - MOVE_BITS)) - 1;
+    // Sequence numbers must fit the maze boards' packed slots
+    private static final int MAX_RESULTS = 1 << 30;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ScheduledThreadPoolExecutor flusher;
+    private final Object writeLock = new Object();
+    private final CRC32 crc = new CRC32();
+
+    // Result columns, slot i holding the result with sequence number i. A score is the time and
+    // move count in one long that orders like the pair, so ranking reads one array.
+    private int size;
+    private long[] scores;
+    private long[] seeds;
+    private long[] recordedAt;
+    private byte[] kinds;
+    private int[] names;
+    private int[] shapes;
+    private int[] next;
+
+    // Player names by id, and ids by name
+    private final List<String> nameList = new ArrayList<>();
+    private final Map<String, Integer> nameIds = new HashMap<>();
+
+    // Maze shapes by id, each a MazeKey with seed 0, and ids by shape; the maze boards of shape i
+    // are in seedTables[i], and presetShapes holds each Difficulty's own shape once it is seen
+    private final List<MazeKey> shapeList = new ArrayList<>();
+    private final Map<MazeKey, Integer> shapeIds = new HashMap<>();
+    private final List<SeedTable> seedTables = new ArrayList<>();
+    private final int[] presetShapes;
+    private final int seedTableSize;
+
+    private final int[][] best;
+    private final int[] bestSizes;
+
+    private ByteBuffer pending;
+    private int pendingCount;
+    private boolean closed;
+
+    private Leaderboard(Path path, FileChannel channel, int capacity) {
+        this.path = path;
+        this.channel = channel;
+        allocate(Math.max(INITIAL_CAPACITY, capacity));
+
+        int difficulties = Difficulty.values().length;
+        best = new int[difficulties][TOP_PER_DIFFICULTY];
+        bestSizes = new int[difficulties];
+        presetShapes = new int[difficulties];
+        Arrays.fill(presetShapes, NO_SHAPE);
+        // Sized so replaying a log where most games had a maze of their own rehashes at most once
+        seedTableSize = capacity / difficulties / 2;
+
+        if (channel != null) {
+            pending = newBatch();
+            flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "leaderboard-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Batches still waiting out their delay are flushed by close instead
+            flusher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        } else {
+            flusher = null;
+        }
+    }
+
+    // -Dmaze.leaderboard overrides the default of ~/.maze-runner/leaderboard.log
+    public static Path defaultPath() {
+        String configured = System.getProperty("maze.leaderboard");
+        return configured != null ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".maze-runner", "leaderboard.log");
+    }
+
+    // Opens the log, creating it if needed, and replays it into the boards
+    public static Leaderboard open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Every record is at least this long, so the columns never have to grow during replay
+            long records = (channel.size() - HEADER_BYTES) / (FIXED_PAYLOAD_BYTES + RECORD_OVERHEAD);
+            Leaderboard leaderboard = new Leaderboard(path, channel, (int) Math.min(records + 1, MAX_RESULTS));
+            leaderboard.replay();
+            return leaderboard;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    // Ranks results for this session only
+    public static Leaderboard inMemory() {
+        return new Leaderboard(null, null, INITIAL_CAPACITY);
+    }
+
+    // Null for an in-memory leaderboard
+    public Path getPath() {
+        return path;
+    }
+
+    // Results recorded, including those on no board
+    public synchronized int size() {
+        return size;
+    }
+
+    // Records a finished run on the maze with this key, or on a maze that cannot be regenerated if
+    // it is null (see MazeKey.of(MazeGrid)); blank names become "Player" and long ones are cut to
+    // MAX_NAME_LENGTH
+    public LeaderboardEntry submit(String player, Difficulty difficulty, MazeKey maze,
+                                   long timeMillis, int moves) {
+        Objects.requireNonNull(difficulty, "difficulty");
+        if (maze != null && maze.getParams().getDifficulty() != difficulty) {
+            throw new IllegalArgumentException("Maze " + maze + " is not " + difficulty);
+        }
+        if (timeMillis < 0 || timeMillis > MAX_TIME_MILLIS || moves < 0 || moves > MAX_MOVES) {
+            throw new IllegalArgumentException("Bad result: " + timeMillis + " ms, " + moves + " moves");
+        }
+        String name = cleanName(player);
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Leaderboard is closed");
+            }
+            Integer id = nameIds.get(name);
+            if (id == null) {
+                id = addName(name);
+            }
+            int shape = maze != null ? shapeId(maze) : NO_SHAPE;
+            int sequence = add(difficulty.ordinal(), shape, maze != null ? maze.getSeed() : 0, timeMillis, moves,
+                    System.currentTimeMillis(), id);
+
+            if (channel != null) {
+                append(sequence);
+                pendingCount++;
+                if (pendingCount == 1) {
+                    flusher.schedule(this::flushInBackground, BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                } else if (pendingCount == BATCH_SIZE) {
+                    flusher.execute(this::flushInBackground);
+                }
+            }
+            return entry(sequence);
+        }
+    }
+
+    // Best n runs of the difficulty, best first; at most TOP_PER_DIFFICULTY
+    public synchronized List<LeaderboardEntry> top(Difficulty difficulty, int n) {
+        checkCount(n);
+        int[] board = best[difficulty.ordinal()];
+        int count = Math.min(n, bestSizes[difficulty.ordinal()]);
+        LeaderboardEntry[] entries = new LeaderboardEntry[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = entry(board[i]);
+        }
+        return List.of(entries);
+    }
+
+    // Best n runs on the maze with this key, best first; at most TOP_PER_SEED
+    public synchronized List<LeaderboardEntry> top(MazeKey maze, int n) {
+        checkCount(n);
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.min(n, TOP_PER_SEED));
+        for (int i = mazeBoardHead(maze); i != NO_RESULT && entries.size() < n; i = next[i]) {
+            entries.add(entry(i));
+        }
+        return entries;
+    }
+
+    // 1-based place of the entry on its difficulty's board, or -1 if it is not on it
+    public synchronized int getRank(LeaderboardEntry entry) {
+        int sequence = (int) entry.getSequence();
+        int d = entry.getDifficulty().ordinal();
+        int index = search(best[d], bestSizes[d], sequence);
+        return index >= 0 ? index + 1 : -1;
+    }
+
+    // 1-based place of the entry on its maze's board, or -1 if it is not on it
+    public synchronized int getMazeRank(LeaderboardEntry entry) {
+        MazeKey maze = entry.getMaze();
+        if (maze == null) {
+            return -1;
+        }
+        int rank = 1;
+        for (int i = mazeBoardHead(maze); i != NO_RESULT; i = next[i]) {
+            if (i == entry.getSequence()) {
+                return rank;
+            }
+            rank++;
+        }
+        return -1;
+    }
+
+    // Writes and forces every record submitted so far
+    public void flush() throws IOException {
+        if (channel == null) return;
+        synchronized (writeLock) {
+            ByteBuffer batch;
+            synchronized (this) {
+                if (pendingCount == 0) return;
+                batch = pending.flip();
+                pending = newBatch();
+                pendingCount = 0;
+            }
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+        }
+    }
+
+    // Flushes what is left and releases the file; further submits are refused
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+        }
+        if (channel == null) return;
+        flusher.shutdown();
+        synchronized (writeLock) {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (IOException ex) {
+            MazeLog.error("Could not save leaderboard results to " + path, ex);
+        }
+    }
+
+    private LeaderboardEntry entry(int sequence) {
+        int kind = kinds[sequence] & 0xFF;
+        MazeKey maze = null;
+        if ((kind & KIND_SEEDED) != 0) {
+            MazeKey shape = shapeList.get(shapes[sequence]);
+            maze = new MazeKey(shape.getWidth(), shape.getHeight(), shape.getParams(), seeds[sequence]);
+        }
+        return new LeaderboardEntry(sequence, nameList.get(names[sequence]),
+                Difficulty.values()[kind & ~KIND_SEEDED], maze,
+                scores[sequence] >>> MOVE_BITS, (int) (scores[sequence] & MAX_MOVES), recordedAt[sequence]);
+    }
+
+    // Stores a result in the next slot and places it on its boards; a result on a maze that cannot
+    // be regenerated has no shape
+    private int add(int difficulty, int shape, long seed, long timeMillis, int moveCount,
+                    long finishedAt, int name) {
+        if (size == scores.length) {
+            if (size == MAX_RESULTS) {
+                throw new IllegalStateException("Leaderboard is full at " + size + " results");
+            }
+            allocate(Math.min(size + (size >> 1), MAX_RESULTS));
+        }
+        int sequence = size++;
+        scores[sequence] = timeMillis << MOVE_BITS | moveCount;
+        seeds[sequence] = seed;
+        recordedAt[sequence] = finishedAt;
+        kinds[sequence] = (byte) (difficulty | (shape != NO_SHAPE ? KIND_SEEDED : 0));
+        names[sequence] = name;
+        shapes[sequence] = shape;
+        next[sequence] = NO_RESULT;
+
+        // Difficulty board; a later result never beats an equal earlier one, so it goes after it
+        int[] board = best[difficulty];
+        int count = bestSizes[difficulty];
+        if (count < TOP_PER_DIFFICULTY || compare(sequence, board[count - 1]) < 0) {
+            int index = -(search(board, count, sequence) + 1);
+            int kept = Math.min(count, TOP_PER_DIFFICULTY - 1);
+            System.arraycopy(board, index, board, index + 1, kept - index);
+            board[index] = sequence;
+            bestSizes[difficulty] = kept + 1;
+        }
+
+        if (shape != NO_SHAPE) {
+            placeOnMazeBoard(seedTables.get(shape), seed, sequence);
+        }
+        return sequence;
+    }
+
+    private void placeOnMazeBoard(SeedTable table, long seed, int sequence) {
+        long score = scores[sequence];
+        int slot = table.find(seed);
+        if (table.isFree(slot)) {
+            table.claim(slot, seed);
+            table.update(slot, sequence, score, sequence, score, 1);
+            return;
+        }
+
+        // The slot has the scores of the board's ends. A result is ranked after an earlier one with
+        // the same score, so it goes last (or nowhere on a full board) unless it scores lower than
+        // the last result, first if it scores lower than the first, and only ever walks the board
+        // to go between the two.
+        int head = table.getHead(slot);
+        int tail = table.getTail(slot);
+        int length = table.getLength(slot);
+        long headScore = table.getHeadScore(slot);
+        long tailScore = table.getTailScore(slot);
+        if (score >= tailScore) {
+            if (length < TOP_PER_SEED) {
+                next[tail] = sequence;
+                table.update(slot, head, headScore, sequence, score, length + 1);
+            }
+            return;
+        }
+
+        if (score < headScore) {
+            next[sequence] = head;
+            head = sequence;
+            headScore = score;
+        } else {
+            int previous = head;
+            while (scores[next[previous]] <= score) {
+                previous = next[previous];
+            }
+            next[sequence] = next[previous];
+            next[previous] = sequence;
+        }
+
+        if (length < TOP_PER_SEED) {
+            length++;
+        } else {
+            // One too many now: the old last result drops off
+            int last = head;
+            while (next[last] != tail) {
+                last = next[last];
+            }
+            next[last] = NO_RESULT;
+            tail = last;
+            tailScore = scores[last];
+        }
+        table.update(slot, head, headScore, tail, tailScore, length);
+    }
+
+    private int mazeBoardHead(MazeKey maze) {
+        Integer shape = shapeIds.get(shapeOf(maze.getWidth(), maze.getHeight(), maze.getParams()));
+        if (shape == null) {
+            return NO_RESULT;
+        }
+        SeedTable table = seedTables.get(shape);
+        int slot = table.find(maze.getSeed());
+        return table.isFree(slot) ? NO_RESULT : table.getHead(slot);
+    }
+
+    // Id of the maze's shape, taking the next one if it is new
+    private int shapeId(MazeKey maze) {
+        MazeKey shape = maze.getSeed() == 0 ? maze : shapeOf(maze.getWidth(), maze.getHeight(), maze.getParams());
+        Integer id = shapeIds.get(shape);
+        if (id != null) {
+            return id;
+        }
+        id = shapeList.size();
+        shapeList.add(shape);
+        shapeIds.put(shape, id);
+        seedTables.add(new SeedTable(seedTableSize));
+        return id;
+    }
+
+    // Shape of the game's own mazes of a difficulty, looked up once
+    private int presetShape(int difficulty) {
+        if (presetShapes[difficulty] == NO_SHAPE) {
+            presetShapes[difficulty] = shapeId(MazeKey.of(Difficulty.values()[difficulty], 0));
+        }
+        return presetShapes[difficulty];
+    }
+
+    private static MazeKey shapeOf(int width, int height, MazeParams params) {
+        return new MazeKey(width, height, params, 0);
+    }
+
+    // Best-first order: fastest, then fewest moves, then earliest
+    private int compare(int a, int b) {
+        long order = scores[a] - scores[b];
+        return order != 0 ? (order < 0 ? -1 : 1) : Integer.compare(a, b);
+    }
+
+    // Arrays.binarySearch on the first count sequence numbers of board, in board order
+    private int search(int[] board, int count, int sequence) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = compare(board[mid], sequence);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void allocate(int capacity) {
+        scores = scores == null ? new long[capacity] : Arrays.copyOf(scores, capacity);
+        seeds = seeds == null ? new long[capacity] : Arrays.copyOf(seeds, capacity);
+        recordedAt = recordedAt == null ? new long[capacity] : Arrays.copyOf(recordedAt, capacity);
+        kinds = kinds == null ? new byte[capacity] : Arrays.copyOf(kinds, capacity);
+        names = names == null ? new int[capacity] : Arrays.copyOf(names, capacity);
+        shapes = shapes == null ? new int[capacity] : Arrays.copyOf(shapes, capacity);
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+    }
+
+    private int addName(String name) {
+        int id = nameList.size();
+        nameList.add(name);
+        nameIds.put(name, id);
+        return id;
+    }
+
+    // Length, finished at, seed, time, moves, difficulty, flags, name length, the maze shape if
+    // it is not the Difficulty's own, name, then a CRC-32 of everything after the length
+    private void append(int sequence) {
+        byte[] name = nameList.get(names[sequence]).getBytes(StandardCharsets.UTF_8);
+        int kind = kinds[sequence] & 0xFF;
+        int difficulty = kind & ~KIND_SEEDED;
+        boolean seeded = (kind & KIND_SEEDED) != 0;
+        boolean shaped = seeded && shapes[sequence] != presetShape(difficulty);
+        int length = FIXED_PAYLOAD_BYTES + (shaped ? SHAPE_BYTES : 0) + name.length;
+        if (pending.remaining() < length + RECORD_OVERHEAD) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2,
+                    pending.position() + length + RECORD_OVERHEAD)).order(ByteOrder.LITTLE_ENDIAN);
+            pending = larger.put(pending.flip());
+        }
+        int start = pending.position();
+        pending.putInt(length)
+                .putLong(recordedAt[sequence])
+                .putLong(seeds[sequence])
+                .putLong(scores[sequence] >>> MOVE_BITS)
+                .putInt((int) (scores[sequence] & MAX_MOVES))
+                .put((byte) difficulty)
+                .put((byte) ((seeded ? FLAG_SEEDED : 0) | (shaped ? FLAG_SHAPED : 0)))
+                .putShort((short) name.length);
+        if (shaped) {
+            MazeKey shape = shapeList.get(shapes[sequence]);
+            MazeParams params = shape.getParams();
+            pending.putInt(shape.getWidth())
+                    .putInt(shape.getHeight())
+                    .putDouble(params.getExtraPathRatio())
+                    .putInt(params.getMinCorridors())
+                    .putInt(params.getMaxCorridors())
+                    .putDouble(params.getBranchProbability());
+        }
+        pending.put(name);
+        crc.reset();
+        crc.update(pending.array(), start + 4, length);
+        pending.putInt((int) crc.getValue());
+    }
+
+    private void replay() throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        if (fileSize < HEADER_BYTES) {
+            // New, or a header torn before anything followed it
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).flip();
+            channel.truncate(0);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            channel.force(true);
+            channel.position(HEADER_BYTES);
+            return;
+        }
+
+        buffer.limit(HEADER_BYTES);
+        while (buffer.hasRemaining()) {
+            channel.read(buffer, buffer.position());
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a leaderboard log: " + path);
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported leaderboard log version " + version + ": " + path);
+        }
+
+        // Names repeat from record to record; recently seen ones are matched on their bytes
+        // rather than decoded again
+        byte[][] cachedNames = new byte[1 << NAME_CACHE_BITS][];
+        int[] cachedIds = new int[1 << NAME_CACHE_BITS];
+
+        long valid = HEADER_BYTES;
+        boolean end = false;
+        boolean damaged = false;
+        channel.position(HEADER_BYTES);
+        buffer.clear();
+
+        while (!end && !damaged) {
+            end = channel.read(buffer) < 0;
+            buffer.flip();
+            while (buffer.remaining() >= 4) {
+                int start = buffer.position();
+                int length = buffer.getInt(start);
+                if (length < FIXED_PAYLOAD_BYTES || length > MAX_PAYLOAD_BYTES) {
+                    damaged = true;
+                    break;
+                }
+                if (buffer.remaining() < length + RECORD_OVERHEAD) {
+                    break;
+                }
+                if (!replayRecord(buffer, start + 4, length, cachedNames, cachedIds)) {
+                    damaged = true;
+                    break;
+                }
+                buffer.position(start + length + RECORD_OVERHEAD);
+                valid += length + RECORD_OVERHEAD;
+            }
+            buffer.compact();
+        }
+
+        if (valid < fileSize) {
+            MazeLog.warn("Leaderboard log " + path + ": dropping " + (fileSize - valid)
+                    + " unreadable bytes after " + size + " results");
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+    }
+
+    // Adds the record whose payload of the given length starts at buffer index at; false if the
+    // record is damaged. A method of its own so it is compiled early in a long replay.
+    private boolean replayRecord(ByteBuffer buffer, int at, int length, byte[][] cachedNames, int[] cachedIds) {
+        byte[] bytes = buffer.array();
+        int difficulty = buffer.get(at + 28);
+        int flags = buffer.get(at + 29);
+        int nameLength = buffer.getShort(at + 30);
+        long timeMillis = buffer.getLong(at + 16);
+        int moveCount = buffer.getInt(at + 24);
+        boolean seeded = (flags & FLAG_SEEDED) != 0;
+        boolean shaped = (flags & FLAG_SHAPED) != 0;
+        int nameAt = at + FIXED_PAYLOAD_BYTES + (shaped ? SHAPE_BYTES : 0);
+        crc.reset();
+        crc.update(bytes, at, length);
+        if ((int) crc.getValue() != buffer.getInt(at + length)
+                || difficulty < 0 || difficulty >= best.length || (shaped && !seeded)
+                || nameLength != at + length - nameAt
+                || timeMillis < 0 || timeMillis > MAX_TIME_MILLIS || moveCount < 0 || moveCount > MAX_MOVES
+                || size == MAX_RESULTS) {
+            return false;
+        }
+
+        int shape = NO_SHAPE;
+        if (shaped) {
+            int shapeAt = at + FIXED_PAYLOAD_BYTES;
+            try {
+                shape = shapeId(shapeOf(buffer.getInt(shapeAt), buffer.getInt(shapeAt + 4),
+                        new MazeParams(Difficulty.values()[difficulty], buffer.getDouble(shapeAt + 8),
+                                buffer.getInt(shapeAt + 16), buffer.getInt(shapeAt + 20),
+                                buffer.getDouble(shapeAt + 24))));
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
+        } else if (seeded) {
+            shape = presetShape(difficulty);
+        }
+
+        int hash = 0;
+        for (int i = 0; i < nameLength; i++) {
+            hash = hash * 31 + bytes[nameAt + i];
+        }
+        int slot = (hash * 0x9E3779B9) >>> (Integer.SIZE - NAME_CACHE_BITS);
+        byte[] cached = cachedNames[slot];
+        if (cached == null || !Arrays.equals(cached, 0, cached.length, bytes, nameAt, nameAt + nameLength)) {
+            String name = new String(bytes, nameAt, nameLength, StandardCharsets.UTF_8);
+            Integer id = nameIds.get(name);
+            cachedNames[slot] = Arrays.copyOfRange(bytes, nameAt, nameAt + nameLength);
+            cachedIds[slot] = id != null ? id : addName(name);
+        }
+
+        add(difficulty, shape, buffer.getLong(at + 8),
+                timeMillis, moveCount, buffer.getLong(at), cachedIds[slot]);
+        return true;
+    }
+
+    private static ByteBuffer newBatch() {
+        return ByteBuffer.allocate(BATCH_SIZE * (MAX_PAYLOAD_BYTES + RECORD_OVERHEAD)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void checkCount(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative count: " + n);
+        }
+    }
+
+    private static String cleanName(String player) {
+        String name = player == null ? "" : player.strip();
+        if (name.isEmpty()) {
+            return "Player";
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            int cut = Character.isHighSurrogate(name.charAt(MAX_NAME_LENGTH - 1))
+                    ? MAX_NAME_LENGTH - 1 : MAX_NAME_LENGTH;
+            name = name.substring(0, cut);
+        }
+        return name;
+    }
+
+    // Open-addressing table of the maze boards of one shape. A slot is four longs: the seed,
+    // its board's first result, last result and length packed together, and the scores of the first
+    // and last result, so placing most results reads and writes that one slot and nothing else.
+    // Linear probing; kept at most half full.
+    private static final class SeedTable {
+        private static final int STRIDE = 4;
+        private static final int SEQUENCE_BITS = 30;
+        private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+        private static final long FREE = -1;
+
+        private long[] slots;
+        private int count;
+
+        SeedTable(int expected) {
+            slots = freeSlots(Math.max(16, Integer.highestOneBit(Math.max(1, expected)) * 2));
+        }
+
+        // Slot holding the seed, or the free slot it would go in
+        int find(long seed) {
+            int mask = slots.length / STRIDE - 1;
+            int i = hash(seed) & mask;
+            while (slots[i * STRIDE + 1] != FREE && slots[i * STRIDE] != seed) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        boolean isFree(int slot) {
+            return slots[slot * STRIDE + 1] == FREE;
+        }
+
+        // Takes a free slot for the seed; update must follow before the next find
+        void claim(int slot, long seed) {
+            slots[slot * STRIDE] = seed;
+            count++;
+        }
+
+        int getHead(int slot) {
+            return (int) (slots[slot * STRIDE + 1] & SEQUENCE_MASK);
+        }
+
+        int getTail(int slot) {
+            return (int) (slots[slot * STRIDE + 1] >>> SEQUENCE_BITS & SEQUENCE_MASK);
+        }
+
+        int getLength(int slot) {
+            return (int) (slots[slot * STRIDE + 1] >>> (2 * SEQUENCE_BITS));
+        }
+
+        long getHeadScore(int slot) {
+            return slots[slot * STRIDE + 2];
+        }
+
+        long getTailScore(int slot) {
+            return slots[slot * STRIDE + 3];
+        }
+
+        void update(int slot, int head, long headScore, int tail, long tailScore, int length) {
+            int at = slot * STRIDE;
+            slots[at + 1] = head | (long) tail << SEQUENCE_BITS | (long) length << (2 * SEQUENCE_BITS);
+            slots[at + 2] = headScore;
+            slots[at + 3] = tailScore;
+            if (count * 2 > slots.length / STRIDE) {
+                grow();
+            }
+        }
+
+        private void grow() {
+            long[] old = slots;
+            slots = freeSlots(old.length / STRIDE * 2);
+            int mask = slots.length / STRIDE - 1;
+            for (int j = 0; j < old.length; j += STRIDE) {
+                if (old[j + 1] != FREE) {
+                    int i = hash(old[j]) & mask;
+                    while (slots[i * STRIDE + 1] != FREE) {
+                        i = (i + 1) & mask;
+                    }
+                    System.arraycopy(old, j, slots, i * STRIDE, STRIDE);
+                }
+            }
+        }
+
+        // Seeds are often small or sequential (see MazeBatch.seedFor), so spread them first
+        private static int hash(long seed) {
+            long h = seed * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static long[] freeSlots(int capacity) {
+            long[] slots = new long[capacity * STRIDE];
+            for (int i = 1; i < slots.length; i += STRIDE) {
+                slots[i] = FREE;
+            }
+            return slots;
+        }
+    }
+}
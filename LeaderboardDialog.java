@@ -0,0 +1,114 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+// Best runs of each difficulty, plus the best on one maze when opened with its key
+public class LeaderboardDialog extends JDialog {
+    private static final int SHOWN = 10;
+
+    private final Leaderboard leaderboard;
+    private final JLabel heading;
+    private final JTextArea table;
+
+    public LeaderboardDialog(Window owner, Leaderboard leaderboard) {
+        this(owner, leaderboard, Difficulty.EASY, null);
+    }
+
+    // Opens on the maze's board, or on the difficulty's if maze is null
+    public LeaderboardDialog(Window owner, Leaderboard leaderboard, Difficulty difficulty, MazeKey maze) {
+        super(owner, "LEADERBOARD", ModalityType.APPLICATION_MODAL);
+        this.leaderboard = leaderboard;
+        setLayout(new BorderLayout());
+        setSize(560, 480);
+        setLocationRelativeTo(owner);
+
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(new Color(10, 10, 30));
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(Color.GREEN, 3),
+                BorderFactory.createEmptyBorder(15, 15, 15, 15)));
+
+        heading = new JLabel("", SwingConstants.CENTER);
+        heading.setFont(new Font("Monospaced", Font.BOLD, 24));
+        heading.setForeground(Color.GREEN);
+
+        table = new JTextArea();
+        table.setEditable(false);
+        table.setFocusable(false);
+        table.setFont(new Font("Monospaced", Font.PLAIN, 16));
+        table.setForeground(Color.CYAN);
+        table.setBackground(Color.BLACK);
+        table.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
+
+        JPanel tabs = new JPanel(new FlowLayout(FlowLayout.CENTER, 8, 0));
+        tabs.setOpaque(false);
+        for (Difficulty each : Difficulty.values()) {
+            tabs.add(createButton(each.name(), () -> showDifficulty(each)));
+        }
+        if (maze != null) {
+            tabs.add(createButton("THIS MAZE", () -> showMaze(maze)));
+        }
+
+        JPanel top = new JPanel(new BorderLayout(0, 10));
+        top.setOpaque(false);
+        top.add(heading, BorderLayout.NORTH);
+        top.add(tabs, BorderLayout.SOUTH);
+
+        JPanel bottom = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        bottom.setOpaque(false);
+        bottom.add(createButton("CLOSE", this::dispose));
+
+        panel.add(top, BorderLayout.NORTH);
+        panel.add(table, BorderLayout.CENTER);
+        panel.add(bottom, BorderLayout.SOUTH);
+        add(panel);
+
+        if (maze != null) {
+            showMaze(maze);
+        } else {
+            showDifficulty(difficulty);
+        }
+    }
+
+    private void showDifficulty(Difficulty difficulty) {
+        heading.setText("BEST " + difficulty.name() + " RUNS");
+        showEntries(leaderboard.top(difficulty, SHOWN));
+    }
+
+    private void showMaze(MazeKey maze) {
+        heading.setText("BEST ON THIS MAZE");
+        showEntries(leaderboard.top(maze, SHOWN));
+    }
+
+    private void showEntries(List<LeaderboardEntry> entries) {
+        StringBuilder text = new StringBuilder(String.format("%-4s %-16s %9s %7s%n", "#", "PLAYER", "TIME", "MOVES"));
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            String player = entry.getPlayer().length() > 16 ? entry.getPlayer().substring(0, 16) : entry.getPlayer();
+            text.append(String.format("%-4d %-16s %9s %7d%n", i + 1, player,
+                    formatMillis(entry.getTimeMillis()), entry.getMoves()));
+        }
+        if (entries.isEmpty()) {
+            text.append("\nNo runs yet");
+        }
+        table.setText(text.toString());
+    }
+
+    // mm:ss.hh
+    public static String formatMillis(long millis) {
+        return String.format("%02d:%02d.%02d", millis / 60_000, millis / 1000 % 60, millis / 10 % 100);
+    }
+
+    private static JButton createButton(String text, Runnable action) {
+        JButton btn = new JButton(text);
+        btn.setFont(new Font("Monospaced", Font.BOLD, 14));
+        btn.setForeground(Color.GREEN);
+        btn.setBackground(Color.BLACK);
+        btn.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(Color.GREEN, 2),
+                BorderFactory.createEmptyBorder(4, 8, 4, 8)));
+        btn.setFocusPainted(false);
+        btn.addActionListener(e -> action.run());
+        return btn;
+    }
+}
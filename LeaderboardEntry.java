@@ -0,0 +1,72 @@
+import java.util.OptionalLong;
+
+// One finished run. Entries order best first: fastest time, then fewest moves, then whichever was
+// recorded earlier, so no two entries of one leaderboard ever tie.
+public final class LeaderboardEntry implements Comparable<LeaderboardEntry> {
+    private final long sequence;
+    private final String player;
+    private final Difficulty difficulty;
+    private final MazeKey maze;
+    private final long timeMillis;
+    private final int moves;
+    private final long recordedAt;
+
+    LeaderboardEntry(long sequence, String player, Difficulty difficulty, MazeKey maze,
+                     long timeMillis, int moves, long recordedAt) {
+        this.sequence = sequence;
+        this.player = player;
+        this.difficulty = difficulty;
+        this.maze = maze;
+        this.timeMillis = timeMillis;
+        this.moves = moves;
+        this.recordedAt = recordedAt;
+    }
+
+    // Position in the log, 0 for the first result ever recorded
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    // Key of the maze the run was on; null for mazes that cannot be regenerated
+    public MazeKey getMaze() {
+        return maze;
+    }
+
+    // Seed of the maze the run was on; empty for mazes that cannot be regenerated
+    public OptionalLong getSeed() {
+        return maze != null ? OptionalLong.of(maze.getSeed()) : OptionalLong.empty();
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    // Wall-clock time the run finished, in epoch milliseconds
+    public long getRecordedAt() {
+        return recordedAt;
+    }
+
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        if (timeMillis != other.timeMillis) return Long.compare(timeMillis, other.timeMillis);
+        if (moves != other.moves) return Integer.compare(moves, other.moves);
+        return Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public String toString() {
+        return player + " " + difficulty + " " + timeMillis + "ms " + moves + " moves";
+    }
+}
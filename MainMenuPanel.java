@@ -1,5 +1,6 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 public class MainMenuPanel extends JPanel {
 
@@ -19,6 +20,12 @@ public class MainMenuPanel extends JPanel {
 
     public JButton autoPlayButton, manualPlayButton, leaderboardButton;
 
+    private Timer timer;
+
+    // Background, neon border, title and maze are static: rendered once per panel size, after which
+    // a frame is just this image plus the ball
+    private BufferedImage staticLayer;
+
     public MainMenuPanel() {
         setPreferredSize(new Dimension(900, 600));
         setLayout(null);
@@ -38,19 +45,38 @@ public class MainMenuPanel extends JPanel {
         add(manualPlayButton);
         add(leaderboardButton);
 
-        // Ball animation
-        Timer timer = new Timer(40, e -> {
+        // Ball animation; each tick repaints only where the ball was and is now
+        timer = new Timer(40, e -> {
+            Rectangle dirty = getBallBounds();
             ballX += dx;
             ballY += dy;
             int mazeWidth = maze[0].length*cellSize;
             int mazeHeight = maze.length*cellSize;
             if(ballX < mazeStartX || ballX + ballSize > mazeStartX + mazeWidth) dx = -dx;
             if(ballY < mazeStartY || ballY + ballSize > mazeStartY + mazeHeight) dy = -dy;
-            repaint();
+            dirty.add(getBallBounds());
+            repaint(dirty);
         });
+    }
+
+    // Animate only while on screen, so a hidden menu costs nothing
+    @Override
+    public void addNotify() {
+        super.addNotify();
         timer.start();
     }
 
+    @Override
+    public void removeNotify() {
+        timer.stop();
+        super.removeNotify();
+    }
+
+    // Covers everything drawBallWithEyes paints, plus a pixel for antialiasing
+    private Rectangle getBallBounds() {
+        return new Rectangle(ballX - 1, ballY - 1, ballSize + 2, ballSize + 2);
+    }
+
     private JButton createPixelButton(String text, int x, int y, int w, int h){
         JButton btn = new JButton(text){
             @Override
@@ -88,8 +114,32 @@ public class MainMenuPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g){
         super.paintComponent(g);
+        if(getWidth() <= 0 || getHeight() <= 0) return;
         Graphics2D g2 = (Graphics2D) g;
 
+        if(staticLayer == null || staticLayer.getWidth() != getWidth() || staticLayer.getHeight() != getHeight()){
+            staticLayer = renderStaticLayer(getWidth(), getHeight());
+        }
+        g2.drawImage(staticLayer, 0, 0, null);
+        drawBallWithEyes(g2);
+    }
+
+    private BufferedImage renderStaticLayer(int width, int height){
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g2 = image.createGraphics();
+        try {
+            drawStaticLayer(g2);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    private void drawStaticLayer(Graphics2D g2){
         // Background gradient
         GradientPaint bg = new GradientPaint(0,0,new Color(30,30,60),0,getHeight(),new Color(50,20,80));
         g2.setPaint(bg);
@@ -111,7 +161,6 @@ public class MainMenuPanel extends JPanel {
 
         draw3DTitle(g2,"BALL MAZE",60);
         drawMazeWithNeon(g2);
-        drawBallWithEyes(g2);
     }
 
     private void draw3DTitle(Graphics2D g2,String text,int yPos){
@@ -0,0 +1,40 @@
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Parallel batch maze generation on the common fork-join pool.
+// Maze i of a batch is always built from seedFor(baseSeed, i), so the output does not
+// depend on how many threads run it or in which order tasks finish.
+public final class MazeBatch {
+    // Same increment SplittableRandom uses between split seeds
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private MazeBatch() {
+    }
+
+    // Lazily generates count mazes in parallel. Use forEach to consume them as they finish
+    // without buffering, or forEachOrdered when index order matters.
+    public static Stream<MazeGrid> generate(Difficulty difficulty, int count, long baseSeed) {
+        return generate(MazeGrid.getDifficultySize(difficulty), difficulty, count, baseSeed);
+    }
+
+    public static Stream<MazeGrid> generate(int size, Difficulty difficulty, int count, long baseSeed) {
+        return generate(size, size, MazeParams.forDifficulty(difficulty), count, baseSeed);
+    }
+
+    public static Stream<MazeGrid> generate(int width, int height, MazeParams params, int count, long baseSeed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Batch count must not be negative: " + count);
+        }
+        return IntStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> new MazeGrid(width, height, params, seedFor(baseSeed, i)));
+    }
+
+    // Independent per-task seed (SplitMix64 finalizer over the i-th gamma step)
+    public static long seedFor(long baseSeed, int index) {
+        long z = baseSeed + (index + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
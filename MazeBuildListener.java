@@ -0,0 +1,12 @@
+// Progress callbacks while a MazeGrid is being built.
+// Either method may throw CancellationException to abandon the build.
+public interface MazeBuildListener {
+    MazeBuildListener NONE = (phase, attempt, maxAttempts) -> { };
+
+    // Called as each phase starts; attempt counts from 1
+    void onPhase(MazeBuildPhase phase, int attempt, int maxAttempts);
+
+    // Called periodically inside long-running phases
+    default void checkCancelled() {
+    }
+}
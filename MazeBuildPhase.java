@@ -0,0 +1,4 @@
+// Stages of building a MazeGrid, in the order they run for each attempt
+public enum MazeBuildPhase {
+    CARVING, MULTIPLE_PATHS, DELIBERATE_CORRIDORS, VERIFYING
+}
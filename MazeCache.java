@@ -0,0 +1,181 @@
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+// Built mazes by MazeKey, least recently used evicted first once their walls and solutions take
+// more than maxBytes. Every get returns its own MazeGrid, with the ball on the start, over walls
+// shared with the cache and every other maze handed out for that key, so those walls must never
+// be modified. The shortest path from the start is kept too, so a hit neither generates nor solves.
+//
+// Concurrent misses on one key build it once; the other callers wait for that build.
+public class MazeCache {
+    // Map node, key, entry and array headers kept per maze on top of the walls and path themselves
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final long maxBytes;
+    private final LinkedHashMap<MazeKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<MazeKey, CompletableFuture<Entry>> building = new HashMap<>();
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MazeCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative cache size: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    // The maze for key, built on the calling thread on a miss
+    public MazeGrid get(MazeKey key) {
+        CompletableFuture<Entry> pending;
+        boolean building;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.materialize(key);
+            }
+            misses++;
+            pending = this.building.get(key);
+            building = pending == null;
+            if (building) {
+                pending = new CompletableFuture<>();
+                this.building.put(key, pending);
+            }
+        }
+
+        if (building) {
+            try {
+                Entry entry = Entry.of(key.build());
+                admit(key, entry);
+                pending.complete(entry);
+            } catch (RuntimeException | Error ex) {
+                pending.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                synchronized (this) {
+                    this.building.remove(key);
+                }
+            }
+        }
+        return pending.join().materialize(key);
+    }
+
+    // The maze for key if it is cached, otherwise null without building it
+    public synchronized MazeGrid getIfPresent(MazeKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.materialize(key);
+    }
+
+    // Keeps a maze built elsewhere, e.g. by MazeService, under its key. Its walls are shared from
+    // now on, and its shortest route is searched from the start whatever the ball's position.
+    public void put(MazeKey key, MazeGrid maze) {
+        if (!key.equals(MazeKey.of(maze))) {
+            throw new IllegalArgumentException("Maze does not match " + key);
+        }
+        admit(key, Entry.of(maze));
+    }
+
+    public synchronized boolean contains(MazeKey key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private synchronized void admit(MazeKey key, Entry entry) {
+        // Would only evict everything else and then itself
+        if (entry.bytes > maxBytes) {
+            return;
+        }
+        Entry old = entries.put(key, entry);
+        if (old != null) {
+            bytes -= old.bytes;
+        }
+        bytes += entry.bytes;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Bytes of walls, paths and per-entry overhead currently held
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MazeCache " + entries.size() + " mazes, " + bytes + "/" + maxBytes + " bytes, "
+                + hits + " hits, " + misses + " misses, " + evictions + " evictions";
+    }
+
+    private static final class Entry {
+        final WallGrid walls;
+        final int startX, startY;
+        final int endX, endY;
+        final int attempts;
+        final int[] startPath;
+        final long bytes;
+
+        private Entry(MazeGrid maze, int[] startPath) {
+            this.walls = maze.getWalls();
+            this.startX = maze.getStartX();
+            this.startY = maze.getStartY();
+            this.endX = maze.getEndX();
+            this.endY = maze.getEndY();
+            this.attempts = maze.getAttempts();
+            this.startPath = startPath;
+            this.bytes = walls.getFootprintBytes() + (long) startPath.length * Integer.BYTES + ENTRY_OVERHEAD_BYTES;
+        }
+
+        static Entry of(MazeGrid maze) {
+            WallGrid walls = maze.getWalls();
+            int[] path = new BfsSolver().solve(walls, walls.index(maze.getStartX(), maze.getStartY()),
+                    walls.index(maze.getEndX(), maze.getEndY())).getPath();
+            return new Entry(maze, path);
+        }
+
+        MazeGrid materialize(MazeKey key) {
+            MazeGrid maze = new MazeGrid(walls, key.getParams(), OptionalLong.of(key.getSeed()),
+                    startX, startY, endX, endY, attempts);
+            maze.setStartPath(startPath);
+            return maze;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.stream.IntStream;
+
+// Headless command-line entry point: generates, solves and exports mazes without loading Swing.
+//
+// Usage: java MazeCli [--difficulty EASY|MEDIUM|HARD|EXPERT] [--size N | --width W --height H]
+//                     [--extra-paths RATIO] [--corridors MIN-MAX] [--branch P] [--count N] [--seed S]
+//                     [--solver BFS|BIDIRECTIONAL_BFS|A_STAR|JUMP_POINT|GREEDY] [--walls] [--out FILE]
+//                     [--save DIR | --load FILE]
+//
+// --extra-paths, --corridors and --branch override the difficulty's MazeParams.
+// --save also writes maze i to DIR/maze-i.maze (see MazeFile); --load solves a saved maze instead
+// of generating any, with its seed printed as - if it has none.
+//
+// Writes one tab-separated line per maze, in index order:
+//   index  seed  width  height  pathLength  detourSteps  nodesExpanded  [walls]
+// where walls (with --walls) is the bit-packed wall grid in Base64, see WallGrid.toByteArray.
+// Maze i is MazeGrid(width, height, params, MazeBatch.seedFor(seed, i)), so any line can be rebuilt.
+public class MazeCli {
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        Difficulty difficulty = Difficulty.MEDIUM;
+        int width = -1;
+        int height = -1;
+        Double extraPathRatio = null;
+        int[] corridors = null;
+        Double branchProbability = null;
+        int count = 1;
+        long seed = System.nanoTime();
+        SolverType solverType = SolverType.BFS;
+        boolean includeWalls = false;
+        String out = null;
+        Path saveDir = null;
+        Path load = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--difficulty": difficulty = Difficulty.valueOf(value(args, ++i)); break;
+                case "--size": width = height = Integer.parseInt(value(args, ++i)); break;
+                case "--width": width = Integer.parseInt(value(args, ++i)); break;
+                case "--height": height = Integer.parseInt(value(args, ++i)); break;
+                case "--extra-paths": extraPathRatio = Double.parseDouble(value(args, ++i)); break;
+                case "--corridors": corridors = parseRange(value(args, ++i)); break;
+                case "--branch": branchProbability = Double.parseDouble(value(args, ++i)); break;
+                case "--count": count = Integer.parseInt(value(args, ++i)); break;
+                case "--seed": seed = Long.parseLong(value(args, ++i)); break;
+                case "--solver": solverType = SolverType.valueOf(value(args, ++i)); break;
+                case "--walls": includeWalls = true; break;
+                case "--out": out = value(args, ++i); break;
+                case "--save": saveDir = Paths.get(value(args, ++i)); break;
+                case "--load": load = Paths.get(value(args, ++i)); break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (width < 0) {
+            width = MazeGrid.getDifficultySize(difficulty);
+        }
+        if (height < 0) {
+            height = width;
+        }
+
+        MazeParams params = MazeParams.forDifficulty(difficulty);
+        if (extraPathRatio != null) {
+            params = params.withExtraPathRatio(extraPathRatio);
+        }
+        if (corridors != null) {
+            params = params.withCorridors(corridors[0], corridors[1]);
+        }
+        if (branchProbability != null) {
+            params = params.withBranchProbability(branchProbability);
+        }
+
+        // Unless asked otherwise, only warnings and errors, which go to stderr away from the results
+        if (System.getProperty("maze.log") == null) {
+            MazeLog.setLevel(MazeLog.Level.WARN);
+        }
+
+        if (saveDir != null) {
+            Files.createDirectories(saveDir);
+        }
+
+        long start = System.nanoTime();
+        MazeGrid loaded = null;
+        if (load != null) {
+            // Opening only maps the file; its walls are paged in as the solver reaches them
+            loaded = MazeFile.read(load);
+            width = loaded.getWidth();
+            height = loaded.getHeight();
+            count = 1;
+        }
+        try (Writer writer = new BufferedWriter(out == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write("# index\tseed\twidth\theight\tpathLength\tdetourSteps\tnodesExpanded"
+                    + (includeWalls ? "\twalls" : "") + "\n");
+            if (loaded != null) {
+                writer.write(describe(0, loaded, solverType.create(), includeWalls));
+            } else {
+                run(writer, width, height, params, count, seed, solverType, includeWalls, saveDir);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%s %d %dx%d maze(s) in %.3f s (%.0f mazes/s)%n",
+                loaded != null ? "Loaded and solved" : "Generated and solved", count, width, height, seconds,
+                count / seconds);
+    }
+
+    private static void run(Writer writer, int width, int height, MazeParams params, int count, long seed,
+                            SolverType solverType, boolean includeWalls, Path saveDir) {
+        // Solvers keep scratch buffers, so each worker thread gets its own
+        ThreadLocal<PathSolver> solvers = ThreadLocal.withInitial(solverType::create);
+
+        IntStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> {
+                    MazeGrid maze = new MazeGrid(width, height, params, MazeBatch.seedFor(seed, i));
+                    if (saveDir != null) {
+                        try {
+                            MazeFile.write(maze, saveDir.resolve("maze-" + i + MazeFile.EXTENSION));
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }
+                    return describe(i, maze, solvers.get(), includeWalls);
+                })
+                .forEachOrdered(line -> {
+                    try {
+                        writer.write(line);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+
+    private static String describe(int index, MazeGrid maze, PathSolver solver, boolean includeWalls) {
+        // Detours first: the verifier's scratch is garbage again before the solver's is allocated
+        int detours = maze.getDetourSteps();
+        SolveResult result = maze.solve(solver);
+
+        StringBuilder line = new StringBuilder(64)
+                .append(index).append('\t')
+                .append(maze.getSeed().isPresent() ? Long.toString(maze.getSeed().getAsLong()) : "-").append('\t')
+                .append(maze.getWidth()).append('\t')
+                .append(maze.getHeight()).append('\t')
+                .append(result.getPath().length).append('\t')
+                .append(detours).append('\t')
+                .append(result.getNodesExpanded());
+        if (includeWalls) {
+            line.append('\t').append(Base64.getEncoder().encodeToString(maze.getWalls().toByteArray()));
+        }
+        return line.append('\n').toString();
+    }
+
+    // "N" or "MIN-MAX"
+    private static int[] parseRange(String text) {
+        int dash = text.indexOf('-');
+        if (dash < 0) {
+            int n = Integer.parseInt(text);
+            return new int[]{n, n};
+        }
+        return new int[]{Integer.parseInt(text.substring(0, dash)), Integer.parseInt(text.substring(dash + 1))};
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            System.err.println("Missing value for " + args[i - 1]);
+            System.exit(2);
+        }
+        return args[i];
+    }
+}
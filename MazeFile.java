@@ -0,0 +1,149 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+// Binary maze file: a fixed header followed by the walls, all little-endian.
+//
+//   offset  size  field
+//        0     4  magic "MAZE"
+//        4     2  format version
+//        6     2  flags (bit 0: seed is set)
+//        8     4  width
+//       12     4  height
+//       16     8  seed
+//       24    16  startX, startY, endX, endY
+//       40     8  extra path ratio
+//       48     8  branch probability
+//       56     8  min corridors, max corridors
+//       64     4  difficulty ordinal
+//       68     4  generation attempts
+//       72     8  reserved
+//       80        walls: WallGrid words, cell i is bit (i % 64) of word (i / 64)
+//
+// Both directions go through a MappedByteBuffer. read wraps the mapped payload in a WallGrid as it
+// is, so a maze of any size opens without copying its walls onto the heap; the OS pages them in as
+// solving and rendering touch them. The largest WallGrid has 2^31 cells, a 256 MB payload, so one
+// mapping always covers the file.
+public final class MazeFile {
+    public static final String EXTENSION = ".maze";
+
+    private static final int MAGIC = 0x455A414D; // "MAZE" read little-endian
+    private static final short VERSION = 1;
+    private static final short FLAG_SEEDED = 1;
+    private static final int HEADER_BYTES = 80;
+
+    private MazeFile() {
+    }
+
+    // Creates or replaces the file. The maze is written to a temporary file next to it, forced to
+    // disk and then renamed over it, so a crash leaves either the old file or the new one, never
+    // a torn one, and a maze still mapped from the old file keeps its walls.
+    public static void write(MazeGrid maze, Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + "-", ".tmp");
+        try {
+            writeMapped(maze, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException ex) {
+            // Windows refuses to replace a file that is still mapped, e.g. by a maze read from it;
+            // the old file is then left as it was, and the temporary one must not hide why
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException cleanup) {
+                ex.addSuppressed(cleanup);
+            }
+            throw ex;
+        }
+    }
+
+    private static void writeMapped(MazeGrid maze, Path path) throws IOException {
+        WallGrid walls = maze.getWalls();
+        MazeParams params = maze.getParams();
+        OptionalLong seed = maze.getSeed();
+        long size = HEADER_BYTES + walls.getFootprintBytes();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort(seed.isPresent() ? FLAG_SEEDED : 0)
+                    .putInt(walls.getWidth())
+                    .putInt(walls.getHeight())
+                    .putLong(seed.orElse(0))
+                    .putInt(maze.getStartX())
+                    .putInt(maze.getStartY())
+                    .putInt(maze.getEndX())
+                    .putInt(maze.getEndY())
+                    .putDouble(params.getExtraPathRatio())
+                    .putDouble(params.getBranchProbability())
+                    .putInt(params.getMinCorridors())
+                    .putInt(params.getMaxCorridors())
+                    .putInt(params.getDifficulty().ordinal())
+                    .putInt(maze.getAttempts())
+                    .position(HEADER_BYTES);
+            walls.writeTo(buffer.asLongBuffer());
+            // The mapped pages first, then the file's size and other metadata
+            buffer.force();
+            channel.force(true);
+        }
+    }
+
+    // Maps the file read-only; the returned maze's walls stay in the mapping, which outlives the
+    // channel and is released when the maze is garbage collected
+    public static MazeGrid read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a maze file (too short): " + path);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Maze file too large: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a maze file: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported maze file version " + version + ": " + path);
+            }
+            short flags = buffer.getShort();
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            long seed = buffer.getLong();
+            int startX = buffer.getInt();
+            int startY = buffer.getInt();
+            int endX = buffer.getInt();
+            int endY = buffer.getInt();
+            double extraPathRatio = buffer.getDouble();
+            double branchProbability = buffer.getDouble();
+            int minCorridors = buffer.getInt();
+            int maxCorridors = buffer.getInt();
+            int difficulty = buffer.getInt();
+            int attempts = buffer.getInt();
+            buffer.position(HEADER_BYTES);
+
+            try {
+                if (difficulty < 0 || difficulty >= Difficulty.values().length) {
+                    throw new IllegalArgumentException("Unknown difficulty " + difficulty);
+                }
+                MazeParams params = new MazeParams(Difficulty.values()[difficulty], extraPathRatio,
+                        minCorridors, maxCorridors, branchProbability);
+                WallGrid walls = WallGrid.wrap(width, height, buffer.asLongBuffer());
+                return new MazeGrid(walls, params, (flags & FLAG_SEEDED) != 0 ? OptionalLong.of(seed)
+                        : OptionalLong.empty(), startX, startY, endX, endY, attempts);
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Corrupt maze file " + path + ": " + ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+import java.util.random.RandomGenerator;
+
+// Iterative maze generator engine over a WallGrid.
+// Backtracks with a primitive stack of cell indices, picks the next neighbor from a
+// bitmask over the four directions, and draws every random number from the single
+// RandomGenerator passed in, so the same seed always produces the same maze.
+public class MazeGenerator {
+    // Carving directions as bits: up, down, left, right
+    private static final int UP = 1, DOWN = 2, LEFT = 4, RIGHT = 8;
+
+    // Long loops poll the listener for cancellation every 65536 iterations
+    private static final int CHECK_MASK = (1 << 16) - 1;
+
+    private final RandomGenerator rand;
+    private final MazeBuildListener listener;
+    private int[] stack = new int[0];
+
+    public MazeGenerator(RandomGenerator rand) {
+        this(rand, MazeBuildListener.NONE);
+    }
+
+    public MazeGenerator(RandomGenerator rand, MazeBuildListener listener) {
+        this.rand = rand;
+        this.listener = listener;
+    }
+
+    public void generate(WallGrid walls, MazeParams params) {
+        carve(walls);
+
+        // AGGRESSIVELY create multiple paths
+        createMultiplePaths(walls, params);
+
+        // ADDITIONAL: Create some deliberate alternative routes
+        createDeliberateAlternatives(walls, params);
+    }
+
+    // Recursive backtracking from (1, 1) over odd cells, without recursion or per-step allocation
+    public void carve(WallGrid walls) {
+        int width = walls.getWidth();
+        int height = walls.getHeight();
+
+        // Initialize all as walls
+        walls.fillWalls();
+
+        // At most one stack entry per odd cell
+        int capacity = ((width + 1) / 2) * ((height + 1) / 2);
+        if (stack.length < capacity) {
+            stack = new int[capacity];
+        }
+
+        int top = 0;
+        int first = walls.index(1, 1);
+        walls.clearWall(first);
+        stack[top++] = first;
+
+        int iterations = 0;
+        while (top > 0) {
+            if ((++iterations & CHECK_MASK) == 0) {
+                listener.checkCancelled();
+            }
+            int cell = stack[top - 1];
+            int x = cell % width;
+            int y = cell / width;
+
+            int mask = 0;
+            if (y - 2 > 0 && walls.isWall(cell - 2 * width)) mask |= UP;
+            if (y + 2 < height - 1 && walls.isWall(cell + 2 * width)) mask |= DOWN;
+            if (x - 2 > 0 && walls.isWall(cell - 2)) mask |= LEFT;
+            if (x + 2 < width - 1 && walls.isWall(cell + 2)) mask |= RIGHT;
+
+            if (mask == 0) {
+                top--;
+                continue;
+            }
+
+            int step;
+            switch (pickBit(mask)) {
+                case UP: step = -width; break;
+                case DOWN: step = width; break;
+                case LEFT: step = -1; break;
+                default: step = 1; break;
+            }
+
+            walls.clearWall(cell + step);
+            walls.clearWall(cell + 2 * step);
+            stack[top++] = cell + 2 * step;
+        }
+    }
+
+    public void createMultiplePaths(WallGrid walls, MazeParams params) {
+        int width = walls.getWidth();
+        int height = walls.getHeight();
+        long cells = (long) width * height;
+
+        // MUCH more aggressive path creation
+        long extraPaths = (long) (cells * params.getExtraPathRatio());
+
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug("Attempting to create " + extraPaths + " alternative paths...");
+        }
+
+        long pathsCreated = 0;
+        long attempts = 0;
+        long maxAttempts = cells * 2;
+
+        while (pathsCreated < extraPaths && attempts < maxAttempts) {
+            attempts++;
+            if ((attempts & CHECK_MASK) == 0) {
+                listener.checkCancelled();
+            }
+
+            int x = rand.nextInt(width - 2) + 1;
+            int y = rand.nextInt(height - 2) + 1;
+
+            if (!walls.isWall(x, y)) continue;
+
+            // Count path neighbors
+            int pathNeighbors = 0;
+            if (walls.isOpen(x, y - 1)) pathNeighbors++;
+            if (walls.isOpen(x, y + 1)) pathNeighbors++;
+            if (walls.isOpen(x - 1, y)) pathNeighbors++;
+            if (walls.isOpen(x + 1, y)) pathNeighbors++;
+
+            // Remove wall if it connects paths
+            if (pathNeighbors >= 2) {
+                walls.clearWall(x, y);
+                pathsCreated++;
+            }
+        }
+
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug("Created " + pathsCreated + " alternative paths");
+        }
+    }
+
+    public void createDeliberateAlternatives(WallGrid walls, MazeParams params) {
+        int width = walls.getWidth();
+        int height = walls.getHeight();
+
+        // Create min-max deliberate alternative corridors (3-5 for every Difficulty)
+        int corridors = params.getMinCorridors()
+                + rand.nextInt(params.getMaxCorridors() - params.getMinCorridors() + 1);
+        double branchProbability = params.getBranchProbability();
+
+        for (int c = 0; c < corridors; c++) {
+            // Pick random starting point in a path
+            for (int attempt = 0; attempt < 100; attempt++) {
+                int startX = rand.nextInt(width - 4) + 2;
+                int startY = rand.nextInt(height - 4) + 2;
+
+                if (walls.isWall(startX, startY)) continue;
+
+                // Create a short corridor in a random direction
+                int direction = rand.nextInt(4);
+                int length = 3 + rand.nextInt(5);
+
+                int dx = 0, dy = 0;
+                if (direction == 0) dy = -1;      // up
+                else if (direction == 1) dy = 1;  // down
+                else if (direction == 2) dx = -1; // left
+                else dx = 1;                       // right
+
+                int x = startX;
+                int y = startY;
+
+                for (int i = 0; i < length; i++) {
+                    x += dx;
+                    y += dy;
+
+                    if (x <= 0 || x >= width - 1 || y <= 0 || y >= height - 1) break;
+
+                    walls.clearWall(x, y);
+
+                    // Occasionally branch
+                    if (rand.nextDouble() < branchProbability) {
+                        if (dx != 0 && y > 1 && y < height - 2) {
+                            walls.clearWall(x, y + (rand.nextBoolean() ? 1 : -1));
+                        } else if (dy != 0 && x > 1 && x < width - 2) {
+                            walls.clearWall(x + (rand.nextBoolean() ? 1 : -1), y);
+                        }
+                    }
+                }
+                break;
+            }
+        }
+
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug("Created " + corridors + " deliberate alternative corridors");
+        }
+    }
+
+    // Uniformly picks one set bit of a non-empty 4-bit mask
+    private int pickBit(int mask) {
+        int skip = rand.nextInt(Integer.bitCount(mask));
+        while (skip-- > 0) {
+            mask &= mask - 1;
+        }
+        return Integer.lowestOneBit(mask);
+    }
+}
@@ -1,51 +1,129 @@
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class MazeGrid {
-    private int[][] maze;
+    private WallGrid walls;
     private int ballX, ballY;
+    private int startX, startY;
     private int endX, endY;
     private int steps = 0;
     private Difficulty difficulty;
-
+    private final MazeParams params;
+    private OptionalLong seed = OptionalLong.empty();
+    private final BfsSolver solver = new BfsSolver();
+    private int[] cachedPath;
+    private int cachedPathFrom = -1;
+    private int detourSteps = -1;
+    private int attempts;
+    private MazeStats stats;
+    private DistanceField exitField;
+    private MoveLog moveLog;
+    private boolean recording;
+
+    // Generation is retried until it has multiple routes, at most this many times
+    public static final int MAX_ATTEMPTS = 10;
+
+    // Picks a fresh seed, so a random maze can still be regenerated and ranked by getSeed
     public MazeGrid(Difficulty difficulty) {
-        System.out.println("MazeGrid constructor called with difficulty: " + difficulty);
-        this.difficulty = difficulty;
+        this(difficulty, new SplittableRandom().nextLong());
+    }
 
-        int size = getDifficultySize(difficulty);
-        System.out.println("Maze size: " + size + "x" + size);
+    // The same seed always produces the same maze
+    public MazeGrid(Difficulty difficulty, long seed) {
+        this(getDifficultySize(difficulty), difficulty, seed);
+    }
+
+    public MazeGrid(Difficulty difficulty, RandomGenerator rand) {
+        this(getDifficultySize(difficulty), difficulty, rand);
+    }
+
+    // Custom square size with the difficulty's wall removal; size must be odd and at least 5
+    public MazeGrid(int size, Difficulty difficulty, long seed) {
+        this(size, size, MazeParams.forDifficulty(difficulty), seed);
+    }
+
+    public MazeGrid(int size, Difficulty difficulty, RandomGenerator rand) {
+        this(size, difficulty, rand, MazeBuildListener.NONE);
+    }
 
-        maze = new int[size][size];
+    public MazeGrid(int size, Difficulty difficulty, RandomGenerator rand, MazeBuildListener listener) {
+        this(size, size, MazeParams.forDifficulty(difficulty), rand, listener);
+    }
+
+    // Any rectangle with odd sides of at least 5, tuned by params
+    public MazeGrid(int width, int height, MazeParams params, long seed) {
+        this(width, height, params, seed, MazeBuildListener.NONE);
+    }
+
+    public MazeGrid(int width, int height, MazeParams params, long seed, MazeBuildListener listener) {
+        this(width, height, params, new SplittableRandom(seed), listener);
+        this.seed = OptionalLong.of(seed);
+    }
+
+    // Reports each build phase to the listener, which may throw CancellationException to stop
+    public MazeGrid(int width, int height, MazeParams params, RandomGenerator rand, MazeBuildListener listener) {
+        if (width < 5 || width % 2 == 0 || height < 5 || height % 2 == 0) {
+            throw new IllegalArgumentException("Maze sides must be odd and at least 5: " + width + "x" + height);
+        }
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug("MazeGrid constructor called with " + params + ", size " + width + "x" + height);
+        }
+        this.difficulty = params.getDifficulty();
+        this.params = params;
+        walls = new WallGrid(width, height);
+
+        // Only needed while building, so their per-cell scratch is not kept with the maze
+        MazeGenerator generator = new MazeGenerator(rand, listener);
+        PathVerifier verifier = new PathVerifier();
 
         // Keep generating until we have multiple paths
         boolean hasMultiplePaths = false;
-        int attempts = 0;
-        while (!hasMultiplePaths && attempts < 10) {
+        attempts = 0;
+        while (!hasMultiplePaths && attempts < MAX_ATTEMPTS) {
             attempts++;
-            generateMaze(size);
+            generateMaze(generator, listener, attempts);
 
             // Set positions before checking paths
-            ballX = 1;
-            ballY = 1;
-            endX = size - 2;
-            endY = size - 2;
-
-            hasMultiplePaths = verifyMultiplePaths();
-            if (!hasMultiplePaths) {
-                System.out.println("Only one path found, regenerating... (attempt " + attempts + ")");
+            startX = 1;
+            startY = 1;
+            ballX = startX;
+            ballY = startY;
+            endX = width - 2;
+            endY = height - 2;
+
+            listener.onPhase(MazeBuildPhase.VERIFYING, attempts, MAX_ATTEMPTS);
+            hasMultiplePaths = verifyMultiplePaths(verifier);
+            if (!hasMultiplePaths && MazeLog.isDebugEnabled()) {
+                MazeLog.debug("Only one path found, regenerating... (attempt " + attempts + ")");
             }
         }
 
-        maze[ballY][ballX] = 2; // Mark start
-        maze[endY][endX] = 3;   // Mark end
-
-        System.out.println("MazeGrid initialized successfully");
-        System.out.println("Start: (" + ballX + ", " + ballY + ")");
-        System.out.println("End: (" + endX + ", " + endY + ")");
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug("MazeGrid initialized: start (" + startX + ", " + startY + "), end (" + endX + ", " + endY + ")");
+        }
+    }
 
-        printMazeStats();
+    // An already built maze, e.g. read back by MazeFile; the ball starts on the start cell
+    MazeGrid(WallGrid walls, MazeParams params, OptionalLong seed, int startX, int startY, int endX, int endY,
+             int attempts) {
+        if (!walls.isOpen(startX, startY) || !walls.isOpen(endX, endY)) {
+            throw new IllegalArgumentException("Start and exit must be open cells: (" + startX + ", " + startY
+                    + "), (" + endX + ", " + endY + ")");
+        }
+        this.walls = walls;
+        this.difficulty = params.getDifficulty();
+        this.params = params;
+        this.seed = seed;
+        this.startX = startX;
+        this.startY = startY;
+        this.ballX = startX;
+        this.ballY = startY;
+        this.endX = endX;
+        this.endY = endY;
+        this.attempts = attempts;
     }
 
-    private int getDifficultySize(Difficulty difficulty) {
+    public static int getDifficultySize(Difficulty difficulty) {
         switch (difficulty) {
             case EASY: return 15;    // Made slightly bigger
             case MEDIUM: return 21;
@@ -55,219 +133,90 @@ public class MazeGrid {
         }
     }
 
-    private void generateMaze(int size) {
-        // Initialize all as walls
-        for (int y = 0; y < size; y++) {
-            for (int x = 0; x < size; x++) {
-                maze[y][x] = 1;
-            }
-        }
-
-        // Create base maze with recursive backtracking
-        Stack<int[]> stack = new Stack<>();
-        Random rand = new Random();
-
-        maze[1][1] = 0;
-        stack.push(new int[]{1, 1});
-
-        int[][] directions = {{0, -2}, {0, 2}, {-2, 0}, {2, 0}};
-
-        while (!stack.isEmpty()) {
-            int[] current = stack.peek();
-            int x = current[0];
-            int y = current[1];
-
-            List<int[]> neighbors = new ArrayList<>();
-            for (int[] dir : directions) {
-                int newX = x + dir[0];
-                int newY = y + dir[1];
-
-                if (newX > 0 && newX < size - 1 && newY > 0 && newY < size - 1 && maze[newY][newX] == 1) {
-                    neighbors.add(new int[]{newX, newY, dir[0], dir[1]});
-                }
-            }
-
-            if (!neighbors.isEmpty()) {
-                int[] next = neighbors.get(rand.nextInt(neighbors.size()));
-                int newX = next[0];
-                int newY = next[1];
-                int dirX = next[2];
-                int dirY = next[3];
+    private void generateMaze(MazeGenerator generator, MazeBuildListener listener, int attempt) {
+        cachedPath = null;
+        exitField = null;
+        detourSteps = -1;
+        stats = null;
 
-                maze[y + dirY / 2][x + dirX / 2] = 0;
-                maze[newY][newX] = 0;
-
-                stack.push(new int[]{newX, newY});
-            } else {
-                stack.pop();
-            }
-        }
+        listener.onPhase(MazeBuildPhase.CARVING, attempt, MAX_ATTEMPTS);
+        generator.carve(walls);
 
         // AGGRESSIVELY create multiple paths
-        createMultiplePaths(size);
-    }
-
-    private void createMultiplePaths(int size) {
-        Random rand = new Random();
-
-        // MUCH more aggressive path creation
-        int extraPaths;
-        switch (difficulty) {
-            case EASY:
-                extraPaths = (size * size) / 3;  // 33% of cells
-                break;
-            case MEDIUM:
-                extraPaths = (size * size) / 4;  // 25% of cells
-                break;
-            case HARD:
-                extraPaths = (size * size) / 6;  // 16% of cells
-                break;
-            case EXPERT:
-                extraPaths = (size * size) / 8;  // 12% of cells
-                break;
-            default:
-                extraPaths = (size * size) / 4;
-        }
-
-        System.out.println("Attempting to create " + extraPaths + " alternative paths...");
-
-        int pathsCreated = 0;
-        int attempts = 0;
-        int maxAttempts = size * size * 2;
-
-        while (pathsCreated < extraPaths && attempts < maxAttempts) {
-            attempts++;
-
-            int x = rand.nextInt(size - 2) + 1;
-            int y = rand.nextInt(size - 2) + 1;
-
-            if (maze[y][x] == 0) continue;
-
-            // Count path neighbors
-            int pathNeighbors = 0;
-            if (y > 0 && maze[y-1][x] == 0) pathNeighbors++;
-            if (y < size - 1 && maze[y+1][x] == 0) pathNeighbors++;
-            if (x > 0 && maze[y][x-1] == 0) pathNeighbors++;
-            if (x < size - 1 && maze[y][x+1] == 0) pathNeighbors++;
-
-            // Remove wall if it connects paths
-            if (pathNeighbors >= 2) {
-                maze[y][x] = 0;
-                pathsCreated++;
-            }
-        }
-
-        System.out.println("Created " + pathsCreated + " alternative paths");
+        listener.onPhase(MazeBuildPhase.MULTIPLE_PATHS, attempt, MAX_ATTEMPTS);
+        generator.createMultiplePaths(walls, params);
 
         // ADDITIONAL: Create some deliberate alternative routes
-        createDeliberateAlternatives(size);
+        listener.onPhase(MazeBuildPhase.DELIBERATE_CORRIDORS, attempt, MAX_ATTEMPTS);
+        generator.createDeliberateAlternatives(walls, params);
     }
 
-    private void createDeliberateAlternatives(int size) {
-        Random rand = new Random();
-
-        // Create 3-5 deliberate alternative corridors
-        int corridors = 3 + rand.nextInt(3);
-
-        for (int c = 0; c < corridors; c++) {
-            // Pick random starting point in a path
-            for (int attempt = 0; attempt < 100; attempt++) {
-                int startX = rand.nextInt(size - 4) + 2;
-                int startY = rand.nextInt(size - 4) + 2;
-
-                if (maze[startY][startX] != 0) continue;
-
-                // Create a short corridor in a random direction
-                int direction = rand.nextInt(4);
-                int length = 3 + rand.nextInt(5);
-
-                int dx = 0, dy = 0;
-                if (direction == 0) dy = -1;      // up
-                else if (direction == 1) dy = 1;  // down
-                else if (direction == 2) dx = -1; // left
-                else dx = 1;                       // right
-
-                int x = startX;
-                int y = startY;
-
-                for (int i = 0; i < length; i++) {
-                    x += dx;
-                    y += dy;
-
-                    if (x <= 0 || x >= size - 1 || y <= 0 || y >= size - 1) break;
-
-                    maze[y][x] = 0;
+    private boolean verifyMultiplePaths(PathVerifier verifier) {
+        // Bridge check on a start-exit route: linear time, same answer as enumerating paths
+        int start = walls.index(startX, startY);
+        int end = walls.index(endX, endY);
+        boolean hasAlternative = verifier.hasAlternativeRoute(walls, start, end);
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug(hasAlternative ? "Found more than one route to goal" : "Found a single route to goal");
+        }
+        return hasAlternative;
+    }
 
-                    // Occasionally branch
-                    if (rand.nextDouble() < 0.3) {
-                        if (dx != 0 && y > 1 && y < size - 2) {
-                            maze[y + (rand.nextBoolean() ? 1 : -1)][x] = 0;
-                        } else if (dy != 0 && x > 1 && x < size - 2) {
-                            maze[y][x + (rand.nextBoolean() ? 1 : -1)] = 0;
-                        }
-                    }
-                }
-                break;
+    // Compatibility view: builds the old 0 = path, 1 = wall, 2 = start, 3 = end array on request
+    public int[][] getMaze() {
+        int[][] maze = new int[walls.getHeight()][walls.getWidth()];
+        for (int y = 0; y < maze.length; y++) {
+            for (int x = 0; x < maze[y].length; x++) {
+                maze[y][x] = walls.isWall(x, y) ? 1 : 0;
             }
         }
-
-        System.out.println("Created " + corridors + " deliberate alternative corridors");
+        maze[startY][startX] = 2;
+        maze[endY][endX] = 3;
+        return maze;
     }
 
-    private boolean verifyMultiplePaths() {
-        // Count distinct paths using modified BFS
-        int pathCount = countDistinctPaths();
-        System.out.println("Found " + pathCount + " distinct path(s) to goal");
-        return pathCount > 1;
+    public WallGrid getWalls() {
+        return walls;
     }
 
-    private int countDistinctPaths() {
-        // Use DFS to find multiple distinct paths
-        List<List<int[]>> allPaths = new ArrayList<>();
-        List<int[]> currentPath = new ArrayList<>();
-        boolean[][] visited = new boolean[maze.length][maze[0].length];
-
-        currentPath.add(new int[]{ballX, ballY});
-        visited[ballY][ballX] = true;
-
-        findPathsDFS(ballX, ballY, visited, currentPath, allPaths, 0);
+    public int getWidth() {
+        return walls.getWidth();
+    }
 
-        return allPaths.size();
+    public int getHeight() {
+        return walls.getHeight();
     }
 
-    private void findPathsDFS(int x, int y, boolean[][] visited,
-                              List<int[]> currentPath, List<List<int[]>> allPaths, int depth) {
-        // Limit depth to avoid infinite recursion
-        if (depth > 1000 || allPaths.size() >= 10) return;
+    public boolean isWall(int x, int y) {
+        return walls.isWall(x, y);
+    }
 
-        if (x == endX && y == endY) {
-            allPaths.add(new ArrayList<>(currentPath));
-            return;
+    // Steps of the shortest start-exit route that some other route avoids, i.e. that are not
+    // bridges; counted on first use. The corridors from the start and to the exit are bridges, so
+    // this shows what the extra paths add where a count of disjoint routes would stay at 1.
+    public int getDetourSteps() {
+        if (detourSteps < 0) {
+            int start = walls.index(startX, startY);
+            int bridges = new PathVerifier().countBridges(walls, start, walls.index(endX, endY));
+            detourSteps = bridges < 0 ? 0 : getExitDistanceField().getDistance(start) - bridges;
         }
+        return detourSteps;
+    }
 
-        int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
-
-        for (int[] dir : directions) {
-            int newX = x + dir[0];
-            int newY = y + dir[1];
-
-            if (newX >= 0 && newX < maze[0].length &&
-                    newY >= 0 && newY < maze.length &&
-                    !visited[newY][newX] && maze[newY][newX] != 1) {
-
-                visited[newY][newX] = true;
-                currentPath.add(new int[]{newX, newY});
+    public int getStartX() {
+        return startX;
+    }
 
-                findPathsDFS(newX, newY, visited, currentPath, allPaths, depth + 1);
+    public int getStartY() {
+        return startY;
+    }
 
-                visited[newY][newX] = false;
-                currentPath.remove(currentPath.size() - 1);
-            }
-        }
+    public int getEndX() {
+        return endX;
     }
 
-    public int[][] getMaze() {
-        return maze;
+    public int getEndY() {
+        return endY;
     }
 
     public int getBallX() {
@@ -286,8 +235,47 @@ public class MazeGrid {
         return difficulty;
     }
 
+    public MazeParams getParams() {
+        return params;
+    }
+
+    // Seed the maze was generated from, if it was built from one
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    // Generation attempts it took to get a maze with more than one route
+    public int getAttempts() {
+        return attempts;
+    }
+
+    // Records every ball move from here on into a fresh log, which replaces any earlier one
+    public MoveLog startRecording() {
+        moveLog = new MoveLog(walls.getWidth(), walls.index(ballX, ballY));
+        recording = true;
+        return moveLog;
+    }
+
+    // The latest recording, or null if none was started
+    public MoveLog getMoveLog() {
+        return moveLog;
+    }
+
+    // Moving onto the ball's own cell is not a move: it counts no step and records nothing
     public void setBallPosition(int x, int y) {
-        if (x >= 0 && x < maze[0].length && y >= 0 && y < maze.length && maze[y][x] != 1) {
+        if (walls.isOpen(x, y) && (x != ballX || y != ballY)) {
+            if (recording) {
+                int from = walls.index(ballX, ballY);
+                int to = walls.index(x, y);
+                int direction = MoveLog.directionBetween(from, to, walls.getWidth());
+                if (direction >= 0) {
+                    moveLog.record(direction);
+                } else {
+                    // A jump has no 2-bit encoding; the log keeps the moves up to here
+                    MazeLog.warn("Ball jumped from " + from + " to " + to + ", move recording stopped");
+                    recording = false;
+                }
+            }
             ballX = x;
             ballY = y;
             steps++;
@@ -295,137 +283,154 @@ public class MazeGrid {
     }
 
     public boolean moveUp() {
-        if (ballY > 0 && maze[ballY - 1][ballX] != 1) {
+        if (walls.isOpen(ballX, ballY - 1)) {
             ballY--;
             steps++;
+            record(MoveLog.UP);
             return true;
         }
         return false;
     }
 
     public boolean moveDown() {
-        if (ballY < maze.length - 1 && maze[ballY + 1][ballX] != 1) {
+        if (walls.isOpen(ballX, ballY + 1)) {
             ballY++;
             steps++;
+            record(MoveLog.DOWN);
             return true;
         }
         return false;
     }
 
     public boolean moveLeft() {
-        if (ballX > 0 && maze[ballY][ballX - 1] != 1) {
+        if (walls.isOpen(ballX - 1, ballY)) {
             ballX--;
             steps++;
+            record(MoveLog.LEFT);
             return true;
         }
         return false;
     }
 
     public boolean moveRight() {
-        if (ballX < maze[0].length - 1 && maze[ballY][ballX + 1] != 1) {
+        if (walls.isOpen(ballX + 1, ballY)) {
             ballX++;
             steps++;
+            record(MoveLog.RIGHT);
             return true;
         }
         return false;
     }
 
+    private void record(int direction) {
+        if (recording) {
+            moveLog.record(direction);
+        }
+    }
+
     public boolean isFinished() {
         return ballX == endX && ballY == endY;
     }
 
     public List<int[]> getShortestPath() {
-        List<int[]> path = new ArrayList<>();
-
-        Queue<Node> queue = new LinkedList<>();
-        boolean[][] visited = new boolean[maze.length][maze[0].length];
-        Node[][] parent = new Node[maze.length][maze[0].length];
-
-        queue.add(new Node(ballX, ballY));
-        visited[ballY][ballX] = true;
+        List<int[]> path = toCoordinates(getShortestPathCells());
 
-        int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug(path.isEmpty() ? "No path found!" : "Shortest path length: " + path.size());
+        }
+        return path;
+    }
 
-        while (!queue.isEmpty()) {
-            Node current = queue.poll();
+    // Path from the ball to the exit found by the given engine, as {x, y} pairs
+    public List<int[]> getShortestPath(PathSolver pathSolver) {
+        SolveResult result = solve(pathSolver);
+        if (MazeLog.isDebugEnabled()) {
+            MazeLog.debug(result.toString());
+        }
+        return toCoordinates(result.getPath());
+    }
 
-            if (current.x == endX && current.y == endY) {
-                Node node = current;
-                while (node != null) {
-                    path.add(0, new int[]{node.x, node.y});
-                    node = parent[node.y][node.x];
-                }
-                System.out.println("Shortest path length: " + path.size());
-                return path;
-            }
+    public SolveResult solve(PathSolver pathSolver) {
+        return pathSolver.solve(walls, walls.index(ballX, ballY), walls.index(endX, endY));
+    }
 
-            for (int[] dir : directions) {
-                int newX = current.x + dir[0];
-                int newY = current.y + dir[1];
+    // Shortest path from the ball to the exit as row-major cell indices.
+    // The result is cached per starting cell and shared, so callers must not modify it.
+    public int[] getShortestPathCells() {
+        int from = walls.index(ballX, ballY);
+        if (cachedPath == null || cachedPathFrom != from) {
+            cachedPath = solver.solve(walls, from, walls.index(endX, endY)).getPath();
+            cachedPathFrom = from;
+        }
+        return cachedPath;
+    }
 
-                if (newX >= 0 && newX < maze[0].length &&
-                        newY >= 0 && newY < maze.length &&
-                        !visited[newY][newX] && maze[newY][newX] != 1) {
+    // Hands over a shortest path from the start already known elsewhere, e.g. kept by MazeCache,
+    // so getShortestPathCells does not search for it again
+    void setStartPath(int[] cells) {
+        cachedPath = cells;
+        cachedPathFrom = walls.index(startX, startY);
+    }
 
-                    visited[newY][newX] = true;
-                    parent[newY][newX] = current;
-                    queue.add(new Node(newX, newY));
-                }
-            }
+    // Reverse BFS from the exit, computed once per maze on first use
+    public DistanceField getExitDistanceField() {
+        if (exitField == null) {
+            exitField = new DistanceField(walls, walls.index(endX, endY));
         }
-
-        System.out.println("No path found!");
-        return path;
+        return exitField;
     }
 
-    public void printMazeStats() {
-        int totalCells = maze.length * maze[0].length;
-        int wallCells = 0;
-        int pathCells = 0;
+    // Moves left from the ball to the exit along a shortest route
+    public int getDistanceToExit() {
+        return getExitDistanceField().getDistance(ballX, ballY);
+    }
 
-        for (int y = 0; y < maze.length; y++) {
-            for (int x = 0; x < maze[0].length; x++) {
-                if (maze[y][x] == 1) wallCells++;
-                else pathCells++;
-            }
-        }
+    // Next cell on a shortest route from the ball to the exit as {x, y}, or null at the exit
+    public int[] getHint() {
+        int next = getExitDistanceField().nextCell(walls.index(ballX, ballY));
+        return next < 0 ? null : new int[]{next % walls.getWidth(), next / walls.getWidth()};
+    }
 
-        System.out.println("\n=== MAZE STATISTICS ===");
-        System.out.println("Difficulty: " + difficulty);
-        System.out.println("Size: " + maze[0].length + "x" + maze.length);
-        System.out.println("Path cells: " + pathCells + " (" + (pathCells * 100 / totalCells) + "%)");
-        System.out.println("Wall cells: " + wallCells + " (" + (wallCells * 100 / totalCells) + "%)");
+    // Shortest route from wherever the ball is now, read off the distance field without searching
+    public List<int[]> getPathToExit() {
+        return toCoordinates(getExitDistanceField().pathFrom(walls.index(ballX, ballY)));
+    }
 
-        List<int[]> shortestPath = getShortestPath();
-        System.out.println("Shortest path: " + shortestPath.size() + " steps");
+    private List<int[]> toCoordinates(int[] cells) {
+        List<int[]> path = new ArrayList<>(cells.length);
+        int width = walls.getWidth();
+        for (int cell : cells) {
+            path.add(new int[]{cell % width, cell / width});
+        }
+        return path;
+    }
 
-        // Reset ball position after pathfinding
-        ballX = 1;
-        ballY = 1;
+    // Collected on first request and cached; solves from the start, not the ball
+    public MazeStats getStats() {
+        if (stats == null) {
+            int pathLength = solver.solve(walls, walls.index(startX, startY), walls.index(endX, endY)).getPath().length;
+            stats = new MazeStats(difficulty, walls.getWidth(), walls.getHeight(), walls.countWalls(),
+                    attempts, pathLength, getDetourSteps());
+        }
+        return stats;
+    }
 
-        System.out.println("======================\n");
+    public void printMazeStats() {
+        MazeLog.info(getStats().toString());
     }
 
     // ASCII visualization for debugging
     public void printMaze() {
         System.out.println("\n=== MAZE VISUALIZATION ===");
-        for (int y = 0; y < maze.length; y++) {
-            for (int x = 0; x < maze[0].length; x++) {
+        for (int y = 0; y < walls.getHeight(); y++) {
+            for (int x = 0; x < walls.getWidth(); x++) {
                 if (x == ballX && y == ballY) System.out.print("@ ");
                 else if (x == endX && y == endY) System.out.print("E ");
-                else if (maze[y][x] == 1) System.out.print("█ ");
+                else if (walls.isWall(x, y)) System.out.print("█ ");
                 else System.out.print("  ");
             }
             System.out.println();
         }
         System.out.println("========================\n");
     }
-
-    private static class Node {
-        int x, y;
-        Node(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-    }
 }
@@ -0,0 +1,83 @@
+import java.time.LocalDate;
+import java.util.Objects;
+
+// Everything a maze is generated from: size, parameters and seed. build always returns the same
+// maze for equal keys, so a maze can be kept as its key and rebuilt on demand, and a key can
+// look mazes up in a MazeCache.
+public final class MazeKey {
+    private final int width;
+    private final int height;
+    private final MazeParams params;
+    private final long seed;
+
+    public MazeKey(int width, int height, MazeParams params, long seed) {
+        if (width < 5 || width % 2 == 0 || height < 5 || height % 2 == 0) {
+            throw new IllegalArgumentException("Maze sides must be odd and at least 5: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.params = Objects.requireNonNull(params, "params");
+        this.seed = seed;
+    }
+
+    // The difficulty's own size and preset, as the game plays it
+    public static MazeKey of(Difficulty difficulty, long seed) {
+        int size = MazeGrid.getDifficultySize(difficulty);
+        return new MazeKey(size, size, MazeParams.forDifficulty(difficulty), seed);
+    }
+
+    // Key of a maze, or null if it has no seed to rebuild it from
+    public static MazeKey of(MazeGrid maze) {
+        if (!maze.getSeed().isPresent()) {
+            return null;
+        }
+        return new MazeKey(maze.getWalls().getWidth(), maze.getWalls().getHeight(), maze.getParams(),
+                maze.getSeed().getAsLong());
+    }
+
+    // Maze of the day: the same for every player on a date, and different per difficulty
+    public static MazeKey daily(Difficulty difficulty, LocalDate date) {
+        return of(difficulty, MazeBatch.seedFor(date.toEpochDay(), difficulty.ordinal()));
+    }
+
+    public MazeGrid build() {
+        return new MazeGrid(width, height, params, seed);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public MazeParams getParams() {
+        return params;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MazeKey)) return false;
+        MazeKey other = (MazeKey) o;
+        return width == other.width && height == other.height && seed == other.seed && params.equals(other.params);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * width + height;
+        result = 31 * result + params.hashCode();
+        result = 31 * result + Long.hashCode(seed);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + " " + params + " seed " + seed;
+    }
+}
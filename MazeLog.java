@@ -0,0 +1,68 @@
+import java.io.PrintStream;
+import java.util.Locale;
+
+// Minimal leveled logging facade. Messages below the current level are dropped, and callers on
+// hot paths check isEnabled first so a disabled message costs one volatile read and no string work.
+// The starting level comes from -Dmaze.log=DEBUG|INFO|WARN|ERROR|OFF (default INFO).
+public final class MazeLog {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static volatile Level level = parseLevel(System.getProperty("maze.log", "INFO"));
+
+    private MazeLog() {
+    }
+
+    // Case-insensitive; an unknown name must not stop the class loading, so it falls back to INFO
+    private static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Unknown log level -Dmaze.log=" + name + ", using INFO");
+            return Level.INFO;
+        }
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0 && messageLevel != Level.OFF;
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    public static void error(String message, Throwable error) {
+        if (isEnabled(Level.ERROR)) {
+            System.err.println(message);
+            if (error != null) {
+                error.printStackTrace();
+            }
+        }
+    }
+
+    private static void log(Level messageLevel, String message) {
+        if (isEnabled(messageLevel)) {
+            PrintStream out = messageLevel.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+            out.println(message);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+// Tunable generation parameters. Each Difficulty is a preset of these, and any of them can be
+// adjusted with the with* methods, which return a copy and keep the preset's Difficulty label.
+public final class MazeParams {
+    private final Difficulty difficulty;
+    private final double extraPathRatio;
+    private final int minCorridors;
+    private final int maxCorridors;
+    private final double branchProbability;
+
+    public MazeParams(Difficulty difficulty, double extraPathRatio, int minCorridors, int maxCorridors,
+                      double branchProbability) {
+        if (!(extraPathRatio >= 0 && extraPathRatio <= 1)) {
+            throw new IllegalArgumentException("Extra path ratio must be between 0 and 1: " + extraPathRatio);
+        }
+        if (minCorridors < 0 || maxCorridors < minCorridors) {
+            throw new IllegalArgumentException("Bad corridor range: " + minCorridors + ".." + maxCorridors);
+        }
+        if (!(branchProbability >= 0 && branchProbability <= 1)) {
+            throw new IllegalArgumentException("Branch probability must be between 0 and 1: " + branchProbability);
+        }
+        this.difficulty = difficulty;
+        this.extraPathRatio = extraPathRatio;
+        this.minCorridors = minCorridors;
+        this.maxCorridors = maxCorridors;
+        this.branchProbability = branchProbability;
+    }
+
+    public static MazeParams forDifficulty(Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY: return new MazeParams(difficulty, 1.0 / 3, 3, 5, 0.3);    // 33% of cells
+            case HARD: return new MazeParams(difficulty, 1.0 / 6, 3, 5, 0.3);    // 16% of cells
+            case EXPERT: return new MazeParams(difficulty, 1.0 / 8, 3, 5, 0.3);  // 12% of cells
+            default: return new MazeParams(difficulty, 1.0 / 4, 3, 5, 0.3);     // 25% of cells
+        }
+    }
+
+    // Preset these parameters started from; reported in stats and used for the game's labels
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    // Share of all cells createMultiplePaths tries to open as extra connections
+    public double getExtraPathRatio() {
+        return extraPathRatio;
+    }
+
+    // createDeliberateAlternatives digs between min and max corridors, inclusive
+    public int getMinCorridors() {
+        return minCorridors;
+    }
+
+    public int getMaxCorridors() {
+        return maxCorridors;
+    }
+
+    // Chance per corridor cell of also opening a side cell
+    public double getBranchProbability() {
+        return branchProbability;
+    }
+
+    public MazeParams withExtraPathRatio(double ratio) {
+        return new MazeParams(difficulty, ratio, minCorridors, maxCorridors, branchProbability);
+    }
+
+    public MazeParams withCorridors(int min, int max) {
+        return new MazeParams(difficulty, extraPathRatio, min, max, branchProbability);
+    }
+
+    public MazeParams withBranchProbability(double probability) {
+        return new MazeParams(difficulty, extraPathRatio, minCorridors, maxCorridors, probability);
+    }
+
+    // Equal parameters generate equal mazes from equal seeds, so they can be part of a MazeKey
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MazeParams)) return false;
+        MazeParams other = (MazeParams) o;
+        return difficulty == other.difficulty
+                && Double.compare(extraPathRatio, other.extraPathRatio) == 0
+                && minCorridors == other.minCorridors
+                && maxCorridors == other.maxCorridors
+                && Double.compare(branchProbability, other.branchProbability) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = difficulty.hashCode();
+        result = 31 * result + Double.hashCode(extraPathRatio);
+        result = 31 * result + minCorridors;
+        result = 31 * result + maxCorridors;
+        result = 31 * result + Double.hashCode(branchProbability);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return difficulty + " (extra paths " + extraPathRatio + ", corridors " + minCorridors + ".." + maxCorridors
+                + ", branch " + branchProbability + ")";
+    }
+}
@@ -0,0 +1,103 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Ready-made mazes per Difficulty so a game can start without waiting for generation.
+// A single low-priority background worker tops each pool back up to targetDepth once
+// it drops to lowWatermark or below.
+public class MazePool {
+    private final int targetDepth;
+    private final int lowWatermark;
+    private final Map<Difficulty, ConcurrentLinkedQueue<MazeGrid>> pools = new EnumMap<>(Difficulty.class);
+    private final Map<Difficulty, AtomicInteger> depths = new EnumMap<>(Difficulty.class);
+    private final Map<Difficulty, AtomicBoolean> refilling = new EnumMap<>(Difficulty.class);
+    private final ThreadPoolExecutor refiller;
+
+    public MazePool(int targetDepth, int lowWatermark) {
+        if (targetDepth < 0 || lowWatermark < 0 || lowWatermark > targetDepth) {
+            throw new IllegalArgumentException("Invalid pool depth " + targetDepth + " / low watermark " + lowWatermark);
+        }
+        this.targetDepth = targetDepth;
+        this.lowWatermark = lowWatermark;
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            pools.put(difficulty, new ConcurrentLinkedQueue<>());
+            depths.put(difficulty, new AtomicInteger());
+            refilling.put(difficulty, new AtomicBoolean());
+        }
+
+        // One worker, at most one queued refill per difficulty
+        refiller = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Difficulty.values().length),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "maze-pool-refill");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // Starts filling every pool in the background
+    public void prefill() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            requestRefill(difficulty);
+        }
+    }
+
+    // O(1) when the pool has a maze; otherwise generates one on the calling thread
+    public MazeGrid take(Difficulty difficulty) {
+        MazeGrid maze = poll(difficulty);
+        return maze != null ? maze : new MazeGrid(difficulty);
+    }
+
+    // O(1); returns null instead of generating when the pool is empty
+    public MazeGrid poll(Difficulty difficulty) {
+        MazeGrid maze = pools.get(difficulty).poll();
+        if (maze != null) {
+            depths.get(difficulty).decrementAndGet();
+        }
+        if (depths.get(difficulty).get() <= lowWatermark) {
+            requestRefill(difficulty);
+        }
+        return maze;
+    }
+
+    public int getDepth(Difficulty difficulty) {
+        return depths.get(difficulty).get();
+    }
+
+    public void shutdown() {
+        refiller.shutdownNow();
+    }
+
+    private void requestRefill(Difficulty difficulty) {
+        AtomicBoolean flag = refilling.get(difficulty);
+        if (flag.compareAndSet(false, true)) {
+            refiller.execute(() -> refill(difficulty));
+        }
+    }
+
+    private void refill(Difficulty difficulty) {
+        ConcurrentLinkedQueue<MazeGrid> pool = pools.get(difficulty);
+        AtomicInteger depth = depths.get(difficulty);
+        try {
+            while (depth.get() < targetDepth && !Thread.currentThread().isInterrupted()) {
+                pool.add(new MazeGrid(difficulty));
+                depth.incrementAndGet();
+            }
+        } finally {
+            refilling.get(difficulty).set(false);
+        }
+        // A poll that drained the pool after the loop's last check but before the flag was cleared
+        // found a refill still running and asked for none, so look again now that it can
+        if (depth.get() <= lowWatermark && !Thread.currentThread().isInterrupted()) {
+            requestRefill(difficulty);
+        }
+    }
+}
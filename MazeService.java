@@ -0,0 +1,81 @@
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Asynchronous maze construction with per-phase progress, cancellation and an optional deadline.
+// Cancelling the returned future (or letting the deadline pass) stops the build at its next
+// phase boundary or cancellation check instead of letting it run to completion.
+public class MazeService {
+    private final ExecutorService executor;
+
+    public MazeService() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "maze-service");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public MazeService(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public CompletableFuture<MazeGrid> generate(Difficulty difficulty, MazeBuildListener progress, Duration deadline) {
+        return generate(MazeGrid.getDifficultySize(difficulty), difficulty,
+                new SplittableRandom().nextLong(), progress, deadline);
+    }
+
+    // A null deadline means no time limit; otherwise the future fails with TimeoutException once it passes
+    public CompletableFuture<MazeGrid> generate(int size, Difficulty difficulty, long seed,
+                                                MazeBuildListener progress, Duration deadline) {
+        return generate(size, size, MazeParams.forDifficulty(difficulty), seed, progress, deadline);
+    }
+
+    public CompletableFuture<MazeGrid> generate(MazeKey key, MazeBuildListener progress, Duration deadline) {
+        return generate(key.getWidth(), key.getHeight(), key.getParams(), key.getSeed(), progress, deadline);
+    }
+
+    public CompletableFuture<MazeGrid> generate(int width, int height, MazeParams params, long seed,
+                                                MazeBuildListener progress, Duration deadline) {
+        CompletableFuture<MazeGrid> future = new CompletableFuture<>();
+        if (deadline != null) {
+            future.orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        MazeBuildListener listener = new MazeBuildListener() {
+            @Override
+            public void onPhase(MazeBuildPhase phase, int attempt, int maxAttempts) {
+                checkCancelled();
+                progress.onPhase(phase, attempt, maxAttempts);
+            }
+
+            @Override
+            public void checkCancelled() {
+                if (future.isDone()) {
+                    throw new CancellationException("Maze generation abandoned");
+                }
+            }
+        };
+
+        executor.execute(() -> {
+            try {
+                future.complete(new MazeGrid(width, height, params, seed, listener));
+            } catch (CancellationException ex) {
+                // Either the future was already cancelled or timed out, or the caller's progress
+                // listener abandoned the build; in that case nobody else will complete the future
+                future.cancel(false);
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,8 +1,22 @@
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
 
 public class MazeSolver extends JFrame {
     private HomePanel homePanel;
 
+    // Ready mazes kept per difficulty; override with -Dmaze.pool.depth / -Dmaze.pool.low
+    private final MazePool mazePool = new MazePool(
+            Integer.getInteger("maze.pool.depth", 3),
+            Integer.getInteger("maze.pool.low", 1));
+    private final MazeService mazeService = new MazeService();
+
+    // Recently played seeded mazes, e.g. the daily ones; -Dmaze.cache.mb sets its size
+    private final MazeCache mazeCache = new MazeCache(Long.getLong("maze.cache.mb", 16L) << 20);
+
+    // Results of finished games; stored at -Dmaze.leaderboard, see Leaderboard.defaultPath
+    private final Leaderboard leaderboard = openLeaderboard();
+
     public MazeSolver() {
         setTitle("MAZE RUNNER - Retro Edition");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -15,11 +29,57 @@ public class MazeSolver extends JFrame {
 
         homePanel = new HomePanel(this);
         setContentPane(homePanel);
+
+        mazePool.prefill();
+
+        // Results still waiting for their batch are written when the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                leaderboard.close();
+            } catch (IOException ex) {
+                MazeLog.error("Could not save leaderboard results", ex);
+            }
+        }, "leaderboard-close"));
+    }
+
+    private static Leaderboard openLeaderboard() {
+        Path path = Leaderboard.defaultPath();
+        try {
+            Leaderboard leaderboard = Leaderboard.open(path);
+            MazeLog.info("Leaderboard: " + leaderboard.size() + " results from " + path);
+            return leaderboard;
+        } catch (IOException ex) {
+            MazeLog.error("Leaderboard unavailable, results will not be saved: " + path, ex);
+            return Leaderboard.inMemory();
+        }
+    }
+
+    public MazePool getMazePool() {
+        return mazePool;
+    }
+
+    public MazeService getMazeService() {
+        return mazeService;
+    }
+
+    public MazeCache getMazeCache() {
+        return mazeCache;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
 
     public void startGame(String playerName, Difficulty difficulty, boolean autoMode) {
-        MazeGrid mazeGrid = new MazeGrid(difficulty);
-        GamePanel gamePanel = new GamePanel(this, mazeGrid, autoMode);
+        startGame(playerName, mazePool.take(difficulty), autoMode);
+    }
+
+    public void startGame(String playerName, MazeGrid mazeGrid, boolean autoMode) {
+        startGame(playerName, mazeGrid, autoMode, SolverType.BFS);
+    }
+
+    public void startGame(String playerName, MazeGrid mazeGrid, boolean autoMode, SolverType solverType) {
+        GamePanel gamePanel = new GamePanel(this, mazeGrid, autoMode, solverType, playerName);
 
         setContentPane(gamePanel);
         revalidate();
@@ -0,0 +1,74 @@
+// Immutable summary of a generated maze, collected on request by MazeGrid.getStats()
+public final class MazeStats {
+    private final Difficulty difficulty;
+    private final int width;
+    private final int height;
+    private final int wallCells;
+    private final int attempts;
+    private final int shortestPathLength;
+    private final int detourSteps;
+
+    public MazeStats(Difficulty difficulty, int width, int height, int wallCells, int attempts,
+                     int shortestPathLength, int detourSteps) {
+        this.difficulty = difficulty;
+        this.width = width;
+        this.height = height;
+        this.wallCells = wallCells;
+        this.attempts = attempts;
+        this.shortestPathLength = shortestPathLength;
+        this.detourSteps = detourSteps;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTotalCells() {
+        return width * height;
+    }
+
+    public int getWallCells() {
+        return wallCells;
+    }
+
+    public int getPathCells() {
+        return getTotalCells() - wallCells;
+    }
+
+    // Generation attempts needed before the maze had more than one route
+    public int getAttempts() {
+        return attempts;
+    }
+
+    // Cells on the shortest start-exit route, including both ends; 0 when unreachable
+    public int getShortestPathLength() {
+        return shortestPathLength;
+    }
+
+    // Steps of the shortest route that another route avoids; see MazeGrid.getDetourSteps
+    public int getDetourSteps() {
+        return detourSteps;
+    }
+
+    @Override
+    public String toString() {
+        long total = getTotalCells();
+        return "=== MAZE STATISTICS ===\n"
+                + "Difficulty: " + difficulty + "\n"
+                + "Size: " + width + "x" + height + "\n"
+                + "Path cells: " + getPathCells() + " (" + (getPathCells() * 100L / total) + "%)\n"
+                + "Wall cells: " + wallCells + " (" + (wallCells * 100L / total) + "%)\n"
+                + "Attempts: " + attempts + "\n"
+                + "Shortest path: " + shortestPathLength + " steps\n"
+                + "Steps with a detour: " + detourSteps + "\n"
+                + "======================";
+    }
+}
@@ -0,0 +1,218 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Static maze layer (floor, walls, start/exit markers) cut into square tiles that are rendered
+// on first use and cached. Painting only touches the tiles under the visible rectangle and tiles
+// far from it are dropped, so both paint time and memory follow the viewport, not the maze size.
+//
+// The auto-solve trail only ever grows, so it is part of this layer too: each new segment is
+// drawn once into the cached tiles it touches and remembered per tile for tiles rendered later.
+public class MazeTileCache {
+    // Roughly this many pixels per tile side, rounded down to whole cells
+    private static final int TILE_PIXELS = 256;
+
+    private static final Color WALL_FILL = new Color(0, 180, 0);
+    private static final Color WALL_EDGE = new Color(0, 100, 0);
+    private static final Color PATH_FILL = new Color(0, 30, 0);
+    private static final Color PATH_EDGE = new Color(0, 50, 0);
+    private static final Color TRAIL = new Color(255, 255, 0, 100);
+
+    private final MazeGrid maze;
+    private final int cellSize;
+    private final int tileCells;
+    private final Map<Long, BufferedImage> tiles = new HashMap<>();
+    private final Map<Long, TrailSegments> trail = new HashMap<>();
+    private final BasicStroke trailStroke;
+
+    public MazeTileCache(MazeGrid maze, int cellSize) {
+        this.maze = maze;
+        this.cellSize = cellSize;
+        this.tileCells = Math.max(1, TILE_PIXELS / cellSize);
+        this.trailStroke = new BasicStroke(Math.max(2, cellSize / 8));
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    // Adds one trail segment between neighboring cells. Cell centres sit half a cell inside
+    // their tile, so a segment only ever touches the tiles of its two end cells.
+    public void addTrailSegment(int fromX, int fromY, int toX, int toY) {
+        int from = fromY * maze.getWidth() + fromX;
+        int to = toY * maze.getWidth() + toX;
+        long fromTile = tileKey(fromX, fromY);
+        long toTile = tileKey(toX, toY);
+
+        addTrailSegment(fromTile, from, to);
+        if (toTile != fromTile) {
+            addTrailSegment(toTile, from, to);
+        }
+    }
+
+    private void addTrailSegment(long key, int from, int to) {
+        trail.computeIfAbsent(key, k -> new TrailSegments()).add(from, to);
+
+        BufferedImage tile = tiles.get(key);
+        if (tile != null) {
+            Graphics2D g2 = tile.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setColor(TRAIL);
+                g2.setStroke(trailStroke);
+                drawTrailSegment(g2, key, from, to);
+            } finally {
+                g2.dispose();
+            }
+        }
+    }
+
+    private void drawTrailSegment(Graphics2D g2, long key, int from, int to) {
+        int width = maze.getWidth();
+        int tilePixels = tileCells * cellSize;
+        int tileX = (int) key * tilePixels;
+        int tileY = (int) (key >>> 32) * tilePixels;
+
+        // Calculate pixel positions for the center of each cell
+        int x1 = (from % width) * cellSize + cellSize / 2 - tileX;
+        int y1 = (from / width) * cellSize + cellSize / 2 - tileY;
+        int x2 = (to % width) * cellSize + cellSize / 2 - tileX;
+        int y2 = (to / width) * cellSize + cellSize / 2 - tileY;
+        g2.drawLine(x1, y1, x2, y2);
+    }
+
+    private long tileKey(int x, int y) {
+        return ((long) (y / tileCells) << 32) | (x / tileCells);
+    }
+
+    // Draws the tiles overlapping view, with maze cell (0, 0) at (originX, originY)
+    public void draw(Graphics2D g2, int originX, int originY, Rectangle view) {
+        int tilePixels = tileCells * cellSize;
+        int tilesX = (maze.getWidth() + tileCells - 1) / tileCells;
+        int tilesY = (maze.getHeight() + tileCells - 1) / tileCells;
+
+        int firstX = Math.max(0, Math.floorDiv(view.x - originX, tilePixels));
+        int lastX = Math.min(tilesX - 1, Math.floorDiv(view.x + view.width - 1 - originX, tilePixels));
+        int firstY = Math.max(0, Math.floorDiv(view.y - originY, tilePixels));
+        int lastY = Math.min(tilesY - 1, Math.floorDiv(view.y + view.height - 1 - originY, tilePixels));
+
+        for (int ty = firstY; ty <= lastY; ty++) {
+            for (int tx = firstX; tx <= lastX; tx++) {
+                long key = ((long) ty << 32) | tx;
+                BufferedImage tile = tiles.get(key);
+                if (tile == null) {
+                    tile = render(key, tx, ty, g2.getDeviceConfiguration());
+                    tiles.put(key, tile);
+                }
+                g2.drawImage(tile, originX + tx * tilePixels, originY + ty * tilePixels, null);
+            }
+        }
+
+        // Keep a ring of one tile around the view for panning and drop the rest
+        int visible = (lastX - firstX + 3) * (lastY - firstY + 3);
+        if (tiles.size() > 2 * visible) {
+            Iterator<Long> keys = tiles.keySet().iterator();
+            while (keys.hasNext()) {
+                long key = keys.next();
+                int tx = (int) key;
+                int ty = (int) (key >>> 32);
+                if (tx < firstX - 1 || tx > lastX + 1 || ty < firstY - 1 || ty > lastY + 1) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    private BufferedImage render(long key, int tx, int ty, GraphicsConfiguration config) {
+        int cols = maze.getWidth();
+        int rows = maze.getHeight();
+        int firstX = tx * tileCells;
+        int firstY = ty * tileCells;
+        int lastX = Math.min(cols, firstX + tileCells) - 1;
+        int lastY = Math.min(rows, firstY + tileCells) - 1;
+
+        // Cell outlines reach one pixel past the cell; tiles on the maze edge keep that pixel
+        int width = (lastX - firstX + 1) * cellSize + (lastX == cols - 1 ? 1 : 0);
+        int height = (lastY - firstY + 1) * cellSize + (lastY == rows - 1 ? 1 : 0);
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            for (int y = firstY; y <= lastY; y++) {
+                for (int x = firstX; x <= lastX; x++) {
+                    int px = (x - firstX) * cellSize;
+                    int py = (y - firstY) * cellSize;
+
+                    if (maze.isWall(x, y)) {
+                        // Wall
+                        g2.setColor(WALL_FILL);
+                        g2.fillRect(px, py, cellSize, cellSize);
+                        g2.setColor(WALL_EDGE);
+                        g2.drawRect(px, py, cellSize, cellSize);
+                    } else {
+                        // Path
+                        g2.setColor(PATH_FILL);
+                        g2.fillRect(px, py, cellSize, cellSize);
+                        g2.setColor(PATH_EDGE);
+                        g2.drawRect(px, py, cellSize, cellSize);
+                    }
+                }
+            }
+
+            // Start marker
+            int startX = maze.getStartX();
+            int startY = maze.getStartY();
+            if (startX >= firstX && startX <= lastX && startY >= firstY && startY <= lastY) {
+                int px = (startX - firstX) * cellSize;
+                int py = (startY - firstY) * cellSize;
+                g2.setColor(Color.CYAN);
+                g2.fillOval(px + 3, py + 3, cellSize - 6, cellSize - 6);
+            }
+
+            // End marker
+            int endX = maze.getEndX();
+            int endY = maze.getEndY();
+            if (endX >= firstX && endX <= lastX && endY >= firstY && endY <= lastY) {
+                int px = (endX - firstX) * cellSize;
+                int py = (endY - firstY) * cellSize;
+                g2.setColor(Color.RED);
+                g2.fillOval(px + 3, py + 3, cellSize - 6, cellSize - 6);
+                g2.setColor(Color.YELLOW);
+                g2.drawOval(px + 2, py + 2, cellSize - 4, cellSize - 4);
+            }
+
+            // Trail segments already added, in their original order
+            TrailSegments segments = trail.get(key);
+            if (segments != null) {
+                g2.setColor(TRAIL);
+                g2.setStroke(trailStroke);
+                for (int i = 0; i < segments.size; i += 2) {
+                    drawTrailSegment(g2, key, segments.cells[i], segments.cells[i + 1]);
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    // Growable list of (from, to) cell pairs
+    private static class TrailSegments {
+        int[] cells = new int[8];
+        int size;
+
+        void add(int from, int to) {
+            if (size + 2 > cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cells[size++] = from;
+            cells[size++] = to;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import java.util.Arrays;
+
+// Primitive binary min-heap of cell indices ordered by long priority.
+// Duplicates are allowed; searches skip stale entries when they pop them.
+public class MinHeap {
+    private long[] keys = new long[16];
+    private int[] cells = new int[16];
+    private int size = 0;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void push(long key, int cell) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            cells = Arrays.copyOf(cells, size * 2);
+        }
+
+        // Sift up
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            keys[i] = keys[parent];
+            cells[i] = cells[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        cells[i] = cell;
+    }
+
+    public long peekKey() {
+        return keys[0];
+    }
+
+    // Removes the minimum entry and returns its cell
+    public int pop() {
+        int top = cells[0];
+        size--;
+        if (size > 0) {
+            long key = keys[size];
+            int cell = cells[size];
+
+            // Sift down
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (key <= keys[child]) break;
+                keys[i] = keys[child];
+                cells[i] = cells[child];
+                i = child;
+            }
+            keys[i] = key;
+            cells[i] = cell;
+        }
+        return top;
+    }
+}
@@ -0,0 +1,192 @@
+import java.util.Arrays;
+
+// Compact record of the ball's moves. Each move is 2 bits (up, down, left, right) in a growable
+// long[], 32 to a word. Every checkpoint interval the ball's cell and the milliseconds since the
+// start are stored too, so MoveReplay can seek to any move by replaying at most one interval from
+// the nearest checkpoint, and find the checkpoint for a time directly, to spread a replay over
+// the original timing.
+//
+// Recording a move only writes into preallocated arrays, which double when full; a log created
+// with room for the run never allocates while recording.
+public class MoveLog {
+    // Same direction order as PathVerifier; the opposite of d is d ^ 1
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 64;
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int width;
+    private final int interval;
+    private final long startNanos;
+    private long[] moves;
+    private int size;
+    private int cell;
+    private int millis;
+
+    // Checkpoint c is the ball's cell after c * interval moves and the milliseconds from the start
+    // of recording to the move that reached it (0 for the start)
+    private int[] checkpointCells;
+    private int[] checkpointMillis;
+
+    public MoveLog(int width, int startCell) {
+        this(width, startCell, DEFAULT_CHECKPOINT_INTERVAL, DEFAULT_CAPACITY);
+    }
+
+    public MoveLog(int width, int startCell, int checkpointInterval, int expectedMoves) {
+        if (width <= 0 || startCell < 0) {
+            throw new IllegalArgumentException("Bad start: cell " + startCell + " of width " + width);
+        }
+        if (checkpointInterval <= 0 || expectedMoves < 0) {
+            throw new IllegalArgumentException("Bad log sizing: interval " + checkpointInterval
+                    + ", capacity " + expectedMoves);
+        }
+        this.width = width;
+        this.interval = checkpointInterval;
+        this.startNanos = System.nanoTime();
+        this.moves = new long[Math.max(1, (expectedMoves + 31) >>> 5)];
+        this.checkpointCells = new int[expectedMoves / checkpointInterval + 1];
+        this.checkpointMillis = new int[checkpointCells.length];
+        this.cell = startCell;
+        checkpointCells[0] = startCell;
+    }
+
+    public void record(int direction) {
+        if (direction < UP || direction > RIGHT) {
+            throw new IllegalArgumentException("Not a direction: " + direction);
+        }
+        if (size == moves.length << 5) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[size >>> 5] |= (long) direction << ((size & 31) << 1);
+        size++;
+        cell = step(cell, direction, width);
+        millis = (int) ((System.nanoTime() - startNanos) / 1_000_000L);
+
+        if (size % interval == 0) {
+            int checkpoint = size / interval;
+            if (checkpoint == checkpointCells.length) {
+                checkpointCells = Arrays.copyOf(checkpointCells, checkpoint * 2);
+                checkpointMillis = Arrays.copyOf(checkpointMillis, checkpoint * 2);
+            }
+            checkpointCells[checkpoint] = cell;
+            checkpointMillis[checkpoint] = millis;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getStartCell() {
+        return checkpointCells[0];
+    }
+
+    // Ball cell after the last recorded move
+    public int getEndCell() {
+        return cell;
+    }
+
+    public int getDirection(int move) {
+        if (move < 0 || move >= size) {
+            throw new IndexOutOfBoundsException("Move " + move + " of " + size);
+        }
+        return (int) (moves[move >>> 5] >>> ((move & 31) << 1)) & 3;
+    }
+
+    public int getCheckpointInterval() {
+        return interval;
+    }
+
+    // Ball cell after checkpoint * interval moves
+    public int getCheckpointCell(int checkpoint) {
+        if (checkpoint < 0 || checkpoint > size / interval) {
+            throw new IndexOutOfBoundsException("Checkpoint " + checkpoint + " of " + (size / interval + 1));
+        }
+        return checkpointCells[checkpoint];
+    }
+
+    // Milliseconds from the start of recording to the move that reached the checkpoint
+    public int getCheckpointMillis(int checkpoint) {
+        if (checkpoint < 0 || checkpoint > size / interval) {
+            throw new IndexOutOfBoundsException("Checkpoint " + checkpoint + " of " + (size / interval + 1));
+        }
+        return checkpointMillis[checkpoint];
+    }
+
+    // Milliseconds from the start of recording to the last move
+    public int getDurationMillis() {
+        return millis;
+    }
+
+    // When the given move count was reached; times between checkpoints are spread evenly
+    public double getMillisAt(int moveCount) {
+        int count = Math.max(0, Math.min(size, moveCount));
+        int checkpoint = count / interval;
+        int fromMove = checkpoint * interval;
+        int fromMillis = checkpointMillis[checkpoint];
+        if (count == fromMove) {
+            return fromMillis;
+        }
+        int toMove = Math.min(fromMove + interval, size);
+        int toMillis = toMove == size ? millis : checkpointMillis[checkpoint + 1];
+        return fromMillis + (double) (toMillis - fromMillis) * (count - fromMove) / (toMove - fromMove);
+    }
+
+    // Number of moves made in the first elapsed milliseconds of the run; the inverse of getMillisAt
+    public int getMovesAt(double elapsedMillis) {
+        if (size == 0 || elapsedMillis >= millis) {
+            return size;
+        }
+        // Last checkpoint at or before elapsedMillis, by binary search over the ascending times
+        int low = 0;
+        int high = size / interval;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (checkpointMillis[mid] <= elapsedMillis) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int checkpoint = low;
+        int fromMillis = checkpointMillis[checkpoint];
+        int fromMove = checkpoint * interval;
+        int toMove = Math.min(fromMove + interval, size);
+        int toMillis = toMove == size ? millis : checkpointMillis[checkpoint + 1];
+        if (toMillis <= fromMillis) {
+            return toMove;
+        }
+        int count = fromMove + (int) ((elapsedMillis - fromMillis) * (toMove - fromMove) / (toMillis - fromMillis));
+        return Math.max(0, Math.min(toMove, count));
+    }
+
+    // Bytes of moves and checkpoints in use, the size of the log if written out
+    public int getFootprintBytes() {
+        return ((size + 31) >>> 5) * Long.BYTES + (size / interval + 1) * 2 * Integer.BYTES;
+    }
+
+    public static int step(int cell, int direction, int width) {
+        switch (direction) {
+            case UP: return cell - width;
+            case DOWN: return cell + width;
+            case LEFT: return cell - 1;
+            default: return cell + 1;
+        }
+    }
+
+    // Direction of a one-cell move from one cell to another, or -1 if they are not neighbors
+    public static int directionBetween(int from, int to, int width) {
+        if (to == from - width) return UP;
+        if (to == from + width) return DOWN;
+        if (to == from - 1 && from % width != 0) return LEFT;
+        if (to == from + 1 && to % width != 0) return RIGHT;
+        return -1;
+    }
+}
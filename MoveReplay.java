@@ -0,0 +1,64 @@
+// Plays a MoveLog back from its start cell. step walks one move at a time, seek jumps to any move
+// with at most one checkpoint interval of replaying, and seekToTime follows a clock, so a replay
+// runs at any speed by scaling the time it is given.
+public class MoveReplay {
+    private final MoveLog log;
+    private int move;
+    private int cell;
+
+    public MoveReplay(MoveLog log) {
+        this.log = log;
+        this.cell = log.getStartCell();
+    }
+
+    // Moves applied so far
+    public int getMove() {
+        return move;
+    }
+
+    public int getCell() {
+        return cell;
+    }
+
+    public int getX() {
+        return cell % log.getWidth();
+    }
+
+    public int getY() {
+        return cell / log.getWidth();
+    }
+
+    public boolean isFinished() {
+        return move >= log.size();
+    }
+
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        cell = MoveLog.step(cell, log.getDirection(move), log.getWidth());
+        move++;
+        return true;
+    }
+
+    // Position after the given number of moves; goes forward from here when that is no further
+    // than from the checkpoint below the target
+    public void seek(int target) {
+        target = Math.max(0, Math.min(log.size(), target));
+        int checkpoint = target / log.getCheckpointInterval();
+        int checkpointMove = checkpoint * log.getCheckpointInterval();
+        if (target < move || move < checkpointMove) {
+            move = checkpointMove;
+            cell = log.getCheckpointCell(checkpoint);
+        }
+        while (move < target) {
+            step();
+        }
+    }
+
+    // Position the recorded run had reached elapsedMillis after it started; pass elapsed real time
+    // multiplied by the playback speed
+    public void seekToTime(double elapsedMillis) {
+        seek(log.getMovesAt(elapsedMillis));
+    }
+}
@@ -0,0 +1,8 @@
+// Interchangeable shortest-path engine over a WallGrid.
+// Implementations keep reusable scratch buffers, so one instance must not be shared between threads.
+public interface PathSolver {
+    String getName();
+
+    // Searches from start to goal (row-major cell indices) with 4-connected moves
+    SolveResult solve(WallGrid walls, int start, int goal);
+}
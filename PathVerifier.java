@@ -0,0 +1,229 @@
+import java.util.Arrays;
+
+// Linear-time route checks between two cells of a WallGrid.
+// hasAlternativeRoute answers "is there more than one simple route" with a bridge test,
+// countBridges counts the steps every route shares with the same DFS, and
+// countEdgeDisjointRoutes reports how many independent routes exist via unit-capacity max-flow.
+// Scratch buffers are reused across calls, like BfsSolver. Tree parents are kept as a
+// direction byte rather than a cell index, so the bridge test needs 10 bytes per cell and
+// the route count 7, which keeps 10,000x10,000 grids within a modest heap.
+public class PathVerifier {
+    // Direction order: up, down, left, right. Opposite direction is d ^ 1.
+    private static final int DIRECTIONS = 4;
+    private static final byte ROOT = DIRECTIONS;
+    private static final byte UNSEEN = -1;
+
+    private int[] disc = new int[0];
+    private int[] low = new int[0];
+    private byte[] parentDir = new byte[0];
+    private byte[] nextDir = new byte[0];
+    private int[] queue = new int[0];
+
+    // Net flow along the edge to the cell below / to the right; the reverse edge carries the negation
+    private byte[] flowDown = new byte[0];
+    private byte[] flowRight = new byte[0];
+
+    // There is more than one simple route from start to goal exactly when some edge
+    // of a start-goal path is not a bridge, i.e. lies on a cycle.
+    public boolean hasAlternativeRoute(WallGrid walls, int start, int goal) {
+        int cellCount = walls.getCellCount();
+        ensureBridgeCapacity(cellCount);
+        if (walls.isWall(start) || walls.isWall(goal) || start == goal) {
+            return false;
+        }
+
+        findBridges(walls, start, cellCount);
+        if (disc[goal] == 0) {
+            return false;
+        }
+
+        // Walk the DFS tree path back from goal; tree edge (p, c) is a bridge iff low[c] > disc[p]
+        int width = walls.getWidth();
+        for (int cell = goal; cell != start; ) {
+            int up = step(cell, parentDir[cell], width);
+            if (low[cell] <= disc[up]) {
+                return true;
+            }
+            cell = up;
+        }
+        return false;
+    }
+
+    // Steps that every route from start to goal takes, i.e. the bridges between them, or -1 when
+    // there is no route. Any simple route crosses the same ones, so the DFS tree path will do.
+    public int countBridges(WallGrid walls, int start, int goal) {
+        int cellCount = walls.getCellCount();
+        ensureBridgeCapacity(cellCount);
+        if (walls.isWall(start) || walls.isWall(goal)) {
+            return -1;
+        }
+        if (start == goal) {
+            return 0;
+        }
+
+        findBridges(walls, start, cellCount);
+        if (disc[goal] == 0) {
+            return -1;
+        }
+        int width = walls.getWidth();
+        int bridges = 0;
+        for (int cell = goal; cell != start; ) {
+            int up = step(cell, parentDir[cell], width);
+            if (low[cell] > disc[up]) {
+                bridges++;
+            }
+            cell = up;
+        }
+        return bridges;
+    }
+
+    // Number of edge-disjoint routes from start to goal, stopping once limit is reached
+    public int countEdgeDisjointRoutes(WallGrid walls, int start, int goal, int limit) {
+        int cellCount = walls.getCellCount();
+        ensureFlowCapacity(cellCount);
+        if (walls.isWall(start) || walls.isWall(goal) || start == goal) {
+            return 0;
+        }
+
+        Arrays.fill(flowDown, 0, cellCount, (byte) 0);
+        Arrays.fill(flowRight, 0, cellCount, (byte) 0);
+        int routes = 0;
+        while (routes < limit && augment(walls, start, goal, cellCount)) {
+            routes++;
+        }
+        return routes;
+    }
+
+    // Iterative Tarjan lowlink DFS from start. The DFS stack is the tree path itself, so it is
+    // walked through parentDir instead of being stored, and large grids cannot overflow anything.
+    private void findBridges(WallGrid walls, int start, int cellCount) {
+        Arrays.fill(disc, 0, cellCount, 0);
+        int width = walls.getWidth();
+        int time = 0;
+
+        int cell = start;
+        disc[start] = low[start] = ++time;
+        parentDir[start] = ROOT;
+        nextDir[start] = 0;
+
+        while (true) {
+            if (nextDir[cell] < DIRECTIONS) {
+                int d = nextDir[cell]++;
+                int next = neighbor(walls, cell, d);
+                if (next < 0) continue;
+
+                if (disc[next] == 0) {
+                    disc[next] = low[next] = ++time;
+                    parentDir[next] = (byte) (d ^ 1);
+                    nextDir[next] = 0;
+                    cell = next;
+                } else if (d != parentDir[cell]) {
+                    low[cell] = Math.min(low[cell], disc[next]);
+                }
+            } else {
+                if (cell == start) {
+                    break;
+                }
+                int up = step(cell, parentDir[cell], width);
+                low[up] = Math.min(low[up], low[cell]);
+                cell = up;
+            }
+        }
+    }
+
+    // One BFS over the residual graph; pushes a unit of flow along the path it finds
+    private boolean augment(WallGrid walls, int start, int goal, int cellCount) {
+        Arrays.fill(parentDir, 0, cellCount, UNSEEN);
+        int width = walls.getWidth();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        parentDir[start] = ROOT;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int d = 0; d < DIRECTIONS; d++) {
+                int next = neighbor(walls, cell, d);
+                if (next < 0 || parentDir[next] != UNSEEN || flow(cell, d, width) >= 1) continue;
+
+                parentDir[next] = (byte) (d ^ 1);
+                if (next == goal) {
+                    for (int c = goal; c != start; ) {
+                        int back = parentDir[c];
+                        int up = step(c, back, width);
+                        pushFlow(up, back ^ 1, width);
+                        c = up;
+                    }
+                    return true;
+                }
+                queue[tail++] = next;
+            }
+        }
+        return false;
+    }
+
+    // Net flow leaving cell in direction d
+    private int flow(int cell, int d, int width) {
+        switch (d) {
+            case 0: return -flowDown[cell - width];
+            case 1: return flowDown[cell];
+            case 2: return -flowRight[cell - 1];
+            default: return flowRight[cell];
+        }
+    }
+
+    private void pushFlow(int cell, int d, int width) {
+        switch (d) {
+            case 0: flowDown[cell - width]--; break;
+            case 1: flowDown[cell]++; break;
+            case 2: flowRight[cell - 1]--; break;
+            default: flowRight[cell]++; break;
+        }
+    }
+
+    // Neighbor of cell in direction d, for moves already known to stay on the grid
+    private static int step(int cell, int d, int width) {
+        switch (d) {
+            case 0: return cell - width;
+            case 1: return cell + width;
+            case 2: return cell - 1;
+            default: return cell + 1;
+        }
+    }
+
+    // Open neighbor of cell in direction d, or -1 for walls and grid edges
+    private static int neighbor(WallGrid walls, int cell, int d) {
+        int width = walls.getWidth();
+        int next;
+        switch (d) {
+            case 0: next = cell >= width ? cell - width : -1; break;
+            case 1: next = cell < walls.getCellCount() - width ? cell + width : -1; break;
+            case 2: next = cell % width > 0 ? cell - 1 : -1; break;
+            default: next = cell % width < width - 1 ? cell + 1 : -1; break;
+        }
+        return next >= 0 && !walls.isWall(next) ? next : -1;
+    }
+
+    // The two checks allocate separately, so a caller using only one pays only for that one
+    private void ensureBridgeCapacity(int cellCount) {
+        if (disc.length < cellCount) {
+            disc = new int[cellCount];
+            low = new int[cellCount];
+            nextDir = new byte[cellCount];
+        }
+        if (parentDir.length < cellCount) {
+            parentDir = new byte[cellCount];
+        }
+    }
+
+    private void ensureFlowCapacity(int cellCount) {
+        if (queue.length < cellCount) {
+            queue = new int[cellCount];
+            flowDown = new byte[cellCount];
+            flowRight = new byte[cellCount];
+        }
+        if (parentDir.length < cellCount) {
+            parentDir = new byte[cellCount];
+        }
+    }
+}
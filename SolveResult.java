@@ -0,0 +1,69 @@
+// Path found by a PathSolver plus statistics about the search that found it
+public final class SolveResult {
+    private static final int[] NO_PATH = new int[0];
+
+    private final String solverName;
+    private final int[] path;
+    private final int nodesExpanded;
+    private final int peakFrontier;
+    private final long elapsedNanos;
+
+    public SolveResult(String solverName, int[] path, int nodesExpanded, int peakFrontier, long elapsedNanos) {
+        this.solverName = solverName;
+        this.path = path;
+        this.nodesExpanded = nodesExpanded;
+        this.peakFrontier = peakFrontier;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public static SolveResult noPath(String solverName, int nodesExpanded, int peakFrontier, long elapsedNanos) {
+        return new SolveResult(solverName, NO_PATH, nodesExpanded, peakFrontier, elapsedNanos);
+    }
+
+    // Walks a parent chain (terminated by -1) back from goal and returns it forward from the start
+    static int[] tracePath(int[] parent, int goal) {
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int i = length;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            path[--i] = cell;
+        }
+        return path;
+    }
+
+    public String getSolverName() {
+        return solverName;
+    }
+
+    // Row-major cell indices from start to goal inclusive; empty when there is no path.
+    // Shared with the solver's caller, so it must not be modified.
+    public int[] getPath() {
+        return path;
+    }
+
+    public boolean isFound() {
+        return path.length > 0;
+    }
+
+    public int getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return solverName + ": path " + path.length + ", expanded " + nodesExpanded
+                + ", peak frontier " + peakFrontier + ", " + (elapsedNanos / 1000) + " us";
+    }
+}
@@ -0,0 +1,74 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+// Compares every SolverType on the same seeded mazes for each Difficulty and a few larger sizes.
+// Usage: java SolverComparison [mazesPerSize]
+public class SolverComparison {
+    private static final int[] CUSTOM_SIZES = {101, 301, 1001};
+
+    public static void main(String[] args) {
+        int mazes = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        PrintStream out = System.out;
+        MazeLog.setLevel(MazeLog.Level.WARN);
+
+        // Warm up every engine on every size so the timings below are for compiled code
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        for (int round = 0; round < 3; round++) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                compare(discard, MazeGrid.getDifficultySize(difficulty), difficulty, mazes);
+            }
+            compare(discard, 101, Difficulty.EASY, mazes);
+        }
+
+        out.printf("%-12s %-8s %10s %12s %10s %10s %10s%n", "size", "solver", "path", "expanded", "frontier", "us",
+                "again us");
+        for (Difficulty difficulty : Difficulty.values()) {
+            compare(out, MazeGrid.getDifficultySize(difficulty), difficulty, mazes);
+        }
+        for (int size : CUSTOM_SIZES) {
+            compare(out, size, Difficulty.EASY, Math.max(1, mazes / 10));
+        }
+    }
+
+    private static void compare(PrintStream out, int size, Difficulty difficulty, int mazes) {
+        SolverType[] types = SolverType.values();
+        PathSolver[] solvers = new PathSolver[types.length];
+        long[] path = new long[types.length];
+        long[] expanded = new long[types.length];
+        long[] frontier = new long[types.length];
+        long[][] nanos = new long[types.length][mazes];
+        long[][] againNanos = new long[types.length][mazes];
+        for (int i = 0; i < types.length; i++) {
+            solvers[i] = types[i].create();
+        }
+
+        for (int m = 0; m < mazes; m++) {
+            MazeGrid maze = new MazeGrid(size, difficulty, MazeBatch.seedFor(size, m));
+            for (int i = 0; i < solvers.length; i++) {
+                SolveResult result = maze.solve(solvers[i]);
+                path[i] += result.getPath().length;
+                expanded[i] += result.getNodesExpanded();
+                frontier[i] += result.getPeakFrontier();
+                nanos[i][m] = result.getElapsedNanos();
+                // Same walls again, which engines with per-grid state answer from it
+                againNanos[i][m] = maze.solve(solvers[i]).getElapsedNanos();
+            }
+        }
+
+        String label = size + " " + difficulty;
+        for (int i = 0; i < solvers.length; i++) {
+            out.printf("%-12s %-8s %10d %12d %10d %10.1f %10.1f%n", label, solvers[i].getName(),
+                    path[i] / mazes, expanded[i] / mazes, frontier[i] / mazes,
+                    median(nanos[i]) / 1000.0, median(againNanos[i]) / 1000.0);
+        }
+    }
+
+    // Times are medians, so a GC pause from generating the next maze does not swamp a row
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
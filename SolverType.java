@@ -0,0 +1,24 @@
+// Path-solving engines that can be picked per game
+public enum SolverType {
+    BFS("BFS"), BIDIRECTIONAL_BFS("Bi-BFS"), A_STAR("A*"), JUMP_POINT("JPS"), GREEDY("Greedy");
+
+    private final String label;
+
+    SolverType(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public PathSolver create() {
+        switch (this) {
+            case BIDIRECTIONAL_BFS: return new BidirectionalBfsSolver();
+            case A_STAR: return new AStarSolver();
+            case JUMP_POINT: return new JumpPointSolver();
+            case GREEDY: return new GreedySolver();
+            default: return new BfsSolver();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+// Compact wall storage: one bit per cell in a flat row-major long[] bitset.
+// A set bit is a wall, a clear bit is an open cell.
+// The words can also live outside the heap (see wrap), e.g. in a mapped maze file.
+public class WallGrid {
+    private final int width;
+    private final int height;
+    private final long[] bits;
+    // Off-heap words of a wrapped grid, in which case bits is null
+    private final LongBuffer words;
+
+    public WallGrid(int width, int height) {
+        this(width, height, new long[wordCount(width, height)], null);
+    }
+
+    private WallGrid(int width, int height, long[] bits, LongBuffer words) {
+        this.width = width;
+        this.height = height;
+        this.bits = bits;
+        this.words = words;
+    }
+
+    // Grid over words that already hold the walls packed as this class does (cell i is bit i % 64
+    // of word i / 64) starting at the buffer's position. Nothing is copied, so a mapped buffer stays
+    // on disk until cells are read; writes go through to the buffer unless it is read-only.
+    public static WallGrid wrap(int width, int height, LongBuffer words) {
+        int count = wordCount(width, height);
+        if (words.remaining() < count) {
+            throw new IllegalArgumentException("Need " + count + " words for " + width + "x" + height
+                    + ", buffer has " + words.remaining());
+        }
+        return new WallGrid(width, height, null, words.slice(words.position(), count));
+    }
+
+    private static int wordCount(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive: " + width + "x" + height);
+        }
+        // Cells are addressed by int index, which covers up to about 46,000x46,000
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + width + "x" + height);
+        }
+        return (int) (((long) width * height + 63) >>> 6);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCellCount() {
+        return width * height;
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean isWall(int cell) {
+        return (word(cell >>> 6) & (1L << cell)) != 0;
+    }
+
+    public boolean isWall(int x, int y) {
+        return isWall(y * width + x);
+    }
+
+    // Out-of-bounds cells count as walls so callers can skip their own edge checks
+    public boolean isOpen(int x, int y) {
+        return inBounds(x, y) && !isWall(y * width + x);
+    }
+
+    public void setWall(int cell) {
+        if (bits != null) {
+            bits[cell >>> 6] |= 1L << cell;
+        } else {
+            words.put(cell >>> 6, words.get(cell >>> 6) | 1L << cell);
+        }
+    }
+
+    public void setWall(int x, int y) {
+        setWall(y * width + x);
+    }
+
+    public void clearWall(int cell) {
+        if (bits != null) {
+            bits[cell >>> 6] &= ~(1L << cell);
+        } else {
+            words.put(cell >>> 6, words.get(cell >>> 6) & ~(1L << cell));
+        }
+    }
+
+    public void clearWall(int x, int y) {
+        clearWall(y * width + x);
+    }
+
+    public void fillWalls() {
+        int count = getWordCount();
+        if (bits != null) {
+            Arrays.fill(bits, -1L);
+        } else {
+            for (int i = 0; i < count; i++) {
+                words.put(i, -1L);
+            }
+        }
+        // Keep the unused tail bits of the last word clear so counts stay exact
+        int tail = getCellCount() & 63;
+        if (tail != 0) {
+            setWord(count - 1, (1L << tail) - 1);
+        }
+    }
+
+    // Overwrites these walls with another grid's of the same dimensions
+    public void copyFrom(WallGrid other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Grid size mismatch: " + other.width + "x" + other.height
+                    + " into " + width + "x" + height);
+        }
+        if (bits != null && other.bits != null) {
+            System.arraycopy(other.bits, 0, bits, 0, bits.length);
+        } else {
+            for (int i = 0, n = getWordCount(); i < n; i++) {
+                setWord(i, other.word(i));
+            }
+        }
+    }
+
+    // Same dimensions and the same walls, compared a word at a time
+    public boolean sameWalls(WallGrid other) {
+        if (other.width != width || other.height != height) {
+            return false;
+        }
+        if (bits != null && other.bits != null) {
+            return Arrays.equals(bits, other.bits);
+        }
+        for (int i = 0, n = getWordCount(); i < n; i++) {
+            if (word(i) != other.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Puts the packed words into out at its position, in the layout wrap reads back
+    public void writeTo(LongBuffer out) {
+        if (bits != null) {
+            out.put(bits);
+        } else {
+            out.put(words.duplicate().clear());
+        }
+    }
+
+    public int countWalls() {
+        int count = 0;
+        for (int i = 0, n = getWordCount(); i < n; i++) {
+            count += Long.bitCount(word(i));
+        }
+        return count;
+    }
+
+    // Bit-packed copy of the walls: cell i is bit (i % 8) of byte (i / 8), row-major
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[(int) (((long) getCellCount() + 7) >>> 3)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (word(i >>> 3) >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+
+    public int getWordCount() {
+        return bits != null ? bits.length : words.capacity();
+    }
+
+    // Wrapped grids keep their walls outside the heap
+    public boolean isOnHeap() {
+        return bits != null;
+    }
+
+    // Size of the backing bitset in bytes (excluding object headers), on or off the heap
+    public long getFootprintBytes() {
+        return (long) getWordCount() * Long.BYTES;
+    }
+
+    private long word(int index) {
+        return bits != null ? bits[index] : words.get(index);
+    }
+
+    private void setWord(int index, long word) {
+        if (bits != null) {
+            bits[index] = word;
+        } else {
+            words.put(index, word);
+        }
+    }
+}
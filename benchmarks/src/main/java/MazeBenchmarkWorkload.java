@@ -0,0 +1,99 @@
+import java.util.SplittableRandom;
+
+import mazebench.MazeWorkload;
+
+// Game-side half of the benchmark bridge: owns the seeded mazes, stage snapshots and engines.
+public class MazeBenchmarkWorkload implements MazeWorkload {
+    private static final int MAX_COUNTED_ROUTES = 10;
+
+    private int size;
+    private Difficulty difficulty;
+    private MazeParams params;
+    private long[] seeds;
+    private MazeGrid[] mazes;
+    private WallGrid[] carved;
+    private WallGrid[] widened;
+    private WallGrid scratch;
+    private MazeGenerator generator;
+    private final PathVerifier verifier = new PathVerifier();
+    private PathSolver solver = new BfsSolver();
+
+    @Override
+    public void setUp(int size, String difficulty, long baseSeed) {
+        MazeLog.setLevel(MazeLog.Level.WARN);
+        this.difficulty = Difficulty.valueOf(difficulty);
+        this.params = MazeParams.forDifficulty(this.difficulty);
+        this.size = size > 0 ? size : MazeGrid.getDifficultySize(this.difficulty);
+        this.seeds = new long[MAZES];
+        this.mazes = new MazeGrid[MAZES];
+        this.carved = new WallGrid[MAZES];
+        this.widened = new WallGrid[MAZES];
+        this.scratch = new WallGrid(this.size, this.size);
+
+        for (int i = 0; i < MAZES; i++) {
+            seeds[i] = MazeBatch.seedFor(baseSeed, i);
+            mazes[i] = new MazeGrid(this.size, this.difficulty, seeds[i]);
+
+            MazeGenerator stages = new MazeGenerator(new SplittableRandom(seeds[i]));
+            carved[i] = new WallGrid(this.size, this.size);
+            stages.carve(carved[i]);
+            widened[i] = new WallGrid(this.size, this.size);
+            widened[i].copyFrom(carved[i]);
+            stages.createMultiplePaths(widened[i], params);
+        }
+
+        // One generator for the whole trial: stage timings continue its fixed-seed sequence
+        generator = new MazeGenerator(new SplittableRandom(baseSeed));
+    }
+
+    @Override
+    public Object build(int maze) {
+        return new MazeGrid(size, difficulty, seeds[maze]);
+    }
+
+    @Override
+    public Object carve(int maze) {
+        generator.carve(scratch);
+        return scratch;
+    }
+
+    @Override
+    public Object createMultiplePaths(int maze) {
+        scratch.copyFrom(carved[maze]);
+        generator.createMultiplePaths(scratch, params);
+        return scratch;
+    }
+
+    @Override
+    public Object createDeliberateAlternatives(int maze) {
+        scratch.copyFrom(widened[maze]);
+        generator.createDeliberateAlternatives(scratch, params);
+        return scratch;
+    }
+
+    @Override
+    public boolean hasAlternativeRoute(int maze) {
+        MazeGrid grid = mazes[maze];
+        WallGrid walls = grid.getWalls();
+        return verifier.hasAlternativeRoute(walls, walls.index(grid.getStartX(), grid.getStartY()),
+                walls.index(grid.getEndX(), grid.getEndY()));
+    }
+
+    @Override
+    public int countIndependentRoutes(int maze) {
+        MazeGrid grid = mazes[maze];
+        WallGrid walls = grid.getWalls();
+        return verifier.countEdgeDisjointRoutes(walls, walls.index(grid.getStartX(), grid.getStartY()),
+                walls.index(grid.getEndX(), grid.getEndY()), MAX_COUNTED_ROUTES);
+    }
+
+    @Override
+    public void useSolver(String solverType) {
+        solver = SolverType.valueOf(solverType).create();
+    }
+
+    @Override
+    public Object solve(int maze) {
+        return mazes[maze].solve(solver);
+    }
+}
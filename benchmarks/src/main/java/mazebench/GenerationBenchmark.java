@@ -0,0 +1,45 @@
+package mazebench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Full MazeGrid construction for every Difficulty at its game size and at larger custom sizes.
+// size 0 means the difficulty's own size.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD", "EXPERT"})
+    public String difficulty;
+
+    @Param({"0", "101", "301", "1001"})
+    public int size;
+
+    private MazeWorkload workload;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        workload = MazeWorkload.load();
+        workload.setUp(size, difficulty, MazeWorkload.BASE_SEED);
+    }
+
+    @Benchmark
+    public Object build() {
+        return workload.build(next++ & (MazeWorkload.MAZES - 1));
+    }
+}
@@ -0,0 +1,43 @@
+package mazebench;
+
+// Bridge from the benchmarks to the game classes.
+// JMH only accepts benchmarks in a named package, and a named package cannot import the
+// game's default-package classes, so the work itself lives in MazeBenchmarkWorkload (default
+// package) behind this interface. It is loaded once per trial, outside any measurement.
+public interface MazeWorkload {
+    // Mazes per trial; benchmarks cycle through them so no single seed dominates
+    int MAZES = 16;
+
+    // Seed every benchmark derives its mazes from
+    long BASE_SEED = 20240101L;
+
+    // Builds the MAZES finished mazes and the per-stage snapshots used below
+    void setUp(int size, String difficulty, long baseSeed);
+
+    // Full MazeGrid construction, including verification and any regeneration attempts
+    Object build(int maze);
+
+    // Each stage runs on a scratch grid; stages after carving first copy in the previous stage's snapshot
+    Object carve(int maze);
+
+    Object createMultiplePaths(int maze);
+
+    Object createDeliberateAlternatives(int maze);
+
+    boolean hasAlternativeRoute(int maze);
+
+    int countIndependentRoutes(int maze);
+
+    // Picks the engine solve() uses, by SolverType name
+    void useSolver(String solverType);
+
+    Object solve(int maze);
+
+    static MazeWorkload load() {
+        try {
+            return (MazeWorkload) Class.forName("MazeBenchmarkWorkload").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("MazeBenchmarkWorkload is not on the classpath", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package mazebench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Start-to-exit solve with every SolverType on the same finished mazes
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverBenchmark {
+    @Param({"BFS", "BIDIRECTIONAL_BFS", "A_STAR", "JUMP_POINT", "GREEDY"})
+    public String solver;
+
+    @Param({"EASY", "EXPERT"})
+    public String difficulty;
+
+    @Param({"0", "301", "1001"})
+    public int size;
+
+    private MazeWorkload workload;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        workload = MazeWorkload.load();
+        workload.setUp(size, difficulty, MazeWorkload.BASE_SEED);
+        workload.useSolver(solver);
+    }
+
+    @Benchmark
+    public Object solve() {
+        return workload.solve(next++ & (MazeWorkload.MAZES - 1));
+    }
+}
@@ -0,0 +1,70 @@
+package mazebench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Each generation stage and both route checks on their own.
+// The later stages include one WallGrid copy to restore their input, which is a single
+// arraycopy of the bitset and small next to the stage itself.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StageBenchmark {
+    @Param({"EASY", "EXPERT"})
+    public String difficulty;
+
+    @Param({"0", "301", "1001"})
+    public int size;
+
+    private MazeWorkload workload;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        workload = MazeWorkload.load();
+        workload.setUp(size, difficulty, MazeWorkload.BASE_SEED);
+    }
+
+    private int nextMaze() {
+        return next++ & (MazeWorkload.MAZES - 1);
+    }
+
+    @Benchmark
+    public Object carve() {
+        return workload.carve(nextMaze());
+    }
+
+    @Benchmark
+    public Object createMultiplePaths() {
+        return workload.createMultiplePaths(nextMaze());
+    }
+
+    @Benchmark
+    public Object createDeliberateAlternatives() {
+        return workload.createDeliberateAlternatives(nextMaze());
+    }
+
+    @Benchmark
+    public boolean verifyAlternativeRoute() {
+        return workload.hasAlternativeRoute(nextMaze());
+    }
+
+    @Benchmark
+    public int countIndependentRoutes() {
+        return workload.countIndependentRoutes(nextMaze());
+    }
+}
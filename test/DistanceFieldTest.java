@@ -0,0 +1,146 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// Every distance against BfsSolver's path length, UNREACHABLE where it finds no path, and a chain
+// of next moves that walks open neighbors one step closer each time. The field remembers its last
+// answer, so queries come in orders that start from that answer, step along or back from it, or
+// land anywhere else.
+class DistanceFieldTest {
+    private final BfsSolver reference = new BfsSolver();
+
+    @Test
+    void matchesBfsOnRandomGrids() {
+        SplittableRandom random = new SplittableRandom(13);
+        for (int i = 0; i < 300; i++) {
+            int width = 1 + random.nextInt(24);
+            int height = 1 + random.nextInt(24);
+            WallGrid walls = new WallGrid(width, height);
+            double wallChance = random.nextDouble() * 0.45;
+            for (int cell = 0; cell < walls.getCellCount(); cell++) {
+                if (random.nextDouble() < wallChance) {
+                    walls.setWall(cell);
+                }
+            }
+            // Any target, so a walled one and cells cut off from it come up too
+            int target = random.nextInt(walls.getCellCount());
+            DistanceField field = new DistanceField(walls, target);
+            for (int n = 0; n < walls.getCellCount(); n++) {
+                // Scattered order, so the last answer rarely helps
+                int cell = random.nextInt(walls.getCellCount());
+                check(field, walls, cell, expected(walls, cell, target));
+            }
+        }
+    }
+
+    @Test
+    void repeatedQueriesMatchBfs() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int i = 0; i < 40; i++) {
+            int size = 5 + 2 * random.nextInt(25);
+            MazeGrid maze = new MazeGrid(size, size, MazeParams.forDifficulty(Difficulty.HARD), random.nextLong());
+            WallGrid walls = maze.getWalls();
+            int target = walls.index(maze.getEndX(), maze.getEndY());
+            int[] distances = new int[walls.getCellCount()];
+            for (int cell = 0; cell < distances.length; cell++) {
+                distances[cell] = expected(walls, cell, target);
+            }
+            DistanceField field = new DistanceField(walls, target);
+
+            int cell = walls.index(maze.getStartX(), maze.getStartY());
+            for (int n = 0; n < 300; n++) {
+                check(field, walls, cell, distances[cell]);
+                // Asked again with nothing moved
+                assertEquals(distances[cell], field.getDistance(cell));
+                int next = field.nextCell(cell);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        // Follows the hint
+                        if (next >= 0) {
+                            cell = next;
+                        }
+                        break;
+                    case 1:
+                        // Steps off the route; the walk back meets the last answer
+                        cell = randomOpenNeighbor(walls, cell, random);
+                        break;
+                    default:
+                        cell = randomOpenCell(walls, random);
+                        break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void walledTargetReachesNothing() {
+        WallGrid walls = new WallGrid(4, 3);
+        walls.setWall(5);
+        DistanceField field = new DistanceField(walls, 5);
+        for (int cell = 0; cell < walls.getCellCount(); cell++) {
+            assertFalse(field.isReachable(cell));
+            assertEquals(DistanceField.UNREACHABLE, field.getDistance(cell));
+            assertEquals(-1, field.nextCell(cell));
+            assertArrayEquals(new int[0], field.pathFrom(cell));
+        }
+    }
+
+    // Moves from cell to target by BfsSolver, or UNREACHABLE
+    private int expected(WallGrid walls, int cell, int target) {
+        int[] path = reference.solve(walls, cell, target).getPath();
+        return path.length == 0 ? DistanceField.UNREACHABLE : path.length - 1;
+    }
+
+    private static void check(DistanceField field, WallGrid walls, int cell, int expected) {
+        String where = walls.getWidth() + "x" + walls.getHeight() + " from " + cell + " to " + field.getTarget();
+        assertEquals(expected, field.getDistance(cell), where);
+        assertEquals(expected != DistanceField.UNREACHABLE, field.isReachable(cell), where);
+        if (expected == DistanceField.UNREACHABLE || expected == 0) {
+            assertEquals(-1, field.nextCell(cell), where);
+            assertEquals(expected == 0 ? 1 : 0, field.pathFrom(cell).length, where);
+            return;
+        }
+
+        int[] path = field.pathFrom(cell);
+        assertEquals(expected + 1, path.length, where);
+        int width = walls.getWidth();
+        int at = cell;
+        for (int i = 0; i < expected; i++) {
+            assertEquals(at, path[i], where);
+            int next = field.nextCell(at);
+            boolean adjacent = Math.abs(next - at) == width || (Math.abs(next - at) == 1 && next / width == at / width);
+            assertTrue(adjacent, where + ": jump between " + at + " and " + next);
+            assertFalse(walls.isWall(next), where + ": wall at step " + i);
+            at = next;
+        }
+        assertEquals(field.getTarget(), at, where);
+        assertEquals(field.getTarget(), path[expected], where);
+    }
+
+    private static int randomOpenNeighbor(WallGrid walls, int cell, SplittableRandom random) {
+        int width = walls.getWidth();
+        int x = cell % width;
+        int y = cell / width;
+        int[][] steps = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+        for (int tries = 0; tries < 8; tries++) {
+            int[] step = steps[random.nextInt(4)];
+            if (walls.isOpen(x + step[0], y + step[1])) {
+                return walls.index(x + step[0], y + step[1]);
+            }
+        }
+        return cell;
+    }
+
+    private static int randomOpenCell(WallGrid walls, SplittableRandom random) {
+        while (true) {
+            int cell = random.nextInt(walls.getCellCount());
+            if (!walls.isWall(cell)) {
+                return cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// The loop reports when it ends, whether it was stopped or an exception ended it, so whoever it
+// drew for can take painting back
+class GameLoopTest {
+    @Test
+    void exceptionEndsTheLoopAndReportsIt() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        GameLoop loop = new GameLoop(new Game(stopped) {
+            @Override
+            public void update() {
+                throw new IllegalStateException("broken step");
+            }
+        }, 1000, 1000);
+        loop.start();
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertFalse(loop.isRunning());
+    }
+
+    @Test
+    void failedLoopCanBeStartedAgain() throws InterruptedException {
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch firstStop = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(10);
+        GameLoop loop = new GameLoop(new Game(firstStop) {
+            @Override
+            public void update() {
+                if (updates.getAndIncrement() == 0) {
+                    throw new IllegalStateException("first step fails");
+                }
+                running.countDown();
+            }
+        }, 1000, 1000);
+        loop.start();
+        assertTrue(firstStop.await(5, TimeUnit.SECONDS));
+        loop.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertTrue(loop.isRunning());
+        loop.stop();
+        assertFalse(loop.isRunning());
+    }
+
+    @Test
+    void requestStopEndsTheLoopWithoutWaiting() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        CountDownLatch rendered = new CountDownLatch(1);
+        GameLoop loop = new GameLoop(new Game(stopped) {
+            @Override
+            public void render(double alpha) {
+                rendered.countDown();
+            }
+        }, 100, 100);
+        loop.start();
+        assertTrue(rendered.await(5, TimeUnit.SECONDS));
+        loop.requestStop();
+        assertFalse(loop.isRunning());
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+    }
+
+    private static class Game implements GameLoop.Game {
+        private final CountDownLatch stopped;
+
+        Game(CountDownLatch stopped) {
+            this.stopped = stopped;
+        }
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void render(double alpha) {
+        }
+
+        @Override
+        public void stopped() {
+            stopped.countDown();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// The log survives being cut short or damaged, keeping every whole record before the damage, and
+// the boards replayed from it rank those records as sorting them all would
+class LeaderboardTest {
+    private static final int RESULTS = 600;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tornTailIsCutOffAndRankingsSurvive() throws IOException {
+        Path path = dir.resolve("leaderboard.log");
+        List<LeaderboardEntry> submitted = submitRandom(path, RESULTS);
+        long[] ends = recordEnds(path);
+        assertEquals(Files.size(path), ends[RESULTS - 1]);
+
+        // A crash in the middle of writing the last record
+        truncate(path, ends[RESULTS - 1] - 5);
+        List<LeaderboardEntry> kept = submitted.subList(0, RESULTS - 1);
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            assertEquals(RESULTS - 1, leaderboard.size());
+            assertBoards(leaderboard, kept);
+            assertEquals(ends[RESULTS - 2], Files.size(path));
+
+            // New results go after the last whole record
+            leaderboard.submit("late", Difficulty.EASY, MazeKey.of(Difficulty.EASY, 1), 1, 1);
+        }
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            assertEquals(RESULTS, leaderboard.size());
+            LeaderboardEntry best = leaderboard.top(MazeKey.of(Difficulty.EASY, 1), 1).get(0);
+            assertEquals("late", best.getPlayer());
+            assertEquals(1, leaderboard.getRank(best));
+            assertEquals(1, leaderboard.getMazeRank(best));
+        }
+    }
+
+    @Test
+    void damagedRecordIsDroppedWithEverythingAfterIt() throws IOException {
+        Path path = dir.resolve("leaderboard.log");
+        List<LeaderboardEntry> submitted = submitRandom(path, RESULTS);
+        long[] ends = recordEnds(path);
+
+        // One flipped bit inside record 250 fails its checksum
+        int damaged = 250;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            long at = ends[damaged - 1] + 12;
+            channel.read(one, at);
+            one.put(0, (byte) (one.get(0) ^ 0x10)).rewind();
+            channel.write(one, at);
+        }
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            assertEquals(damaged, leaderboard.size());
+            assertBoards(leaderboard, submitted.subList(0, damaged));
+        }
+        assertEquals(ends[damaged - 1], Files.size(path));
+    }
+
+    @Test
+    void mazeBoardsAreKeyedBySizeParametersAndSeed() throws IOException {
+        Path path = dir.resolve("leaderboard.log");
+        MazeKey preset = MazeKey.of(Difficulty.HARD, 9);
+        MazeKey wider = new MazeKey(61, 31, MazeParams.forDifficulty(Difficulty.HARD), 9);
+        MazeKey tuned = new MazeKey(31, 31, MazeParams.forDifficulty(Difficulty.HARD).withCorridors(1, 2), 9);
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            leaderboard.submit("preset", Difficulty.HARD, preset, 3000, 40);
+            leaderboard.submit("wider", Difficulty.HARD, wider, 2000, 40);
+            leaderboard.submit("tuned", Difficulty.HARD, tuned, 1000, 40);
+            leaderboard.submit("unseeded", Difficulty.HARD, null, 500, 40);
+        }
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            for (MazeKey maze : List.of(preset, wider, tuned)) {
+                List<LeaderboardEntry> board = leaderboard.top(maze, Leaderboard.TOP_PER_SEED);
+                assertEquals(1, board.size(), maze.toString());
+                assertEquals(maze, board.get(0).getMaze());
+            }
+            assertEquals(List.of("unseeded", "tuned", "wider", "preset"), players(leaderboard.top(Difficulty.HARD, 10)));
+            assertNull(leaderboard.top(Difficulty.HARD, 1).get(0).getMaze());
+            assertEquals(List.of(), leaderboard.top(MazeKey.of(Difficulty.HARD, 10), 10));
+        }
+    }
+
+    @Test
+    void mazeMustBeOfTheResultsDifficulty() throws IOException {
+        try (Leaderboard leaderboard = Leaderboard.inMemory()) {
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.submit("p", Difficulty.EASY, MazeKey.of(Difficulty.HARD, 1), 1000, 10));
+        }
+    }
+
+    // Results over few mazes and a narrow range of scores, so boards fill up and scores tie
+    private static List<LeaderboardEntry> submitRandom(Path path, int count) throws IOException {
+        SplittableRandom random = new SplittableRandom(17);
+        List<LeaderboardEntry> submitted = new ArrayList<>();
+        try (Leaderboard leaderboard = Leaderboard.open(path)) {
+            for (int i = 0; i < count; i++) {
+                Difficulty difficulty = Difficulty.values()[random.nextInt(Difficulty.values().length)];
+                MazeKey maze = random.nextInt(5) == 0 ? null : MazeKey.of(difficulty, random.nextInt(4));
+                submitted.add(leaderboard.submit("player" + random.nextInt(20), difficulty, maze,
+                        1000 + random.nextInt(50) * 10, 20 + random.nextInt(5)));
+            }
+        }
+        return submitted;
+    }
+
+    private static void assertBoards(Leaderboard leaderboard, List<LeaderboardEntry> results) {
+        for (Difficulty difficulty : Difficulty.values()) {
+            List<LeaderboardEntry> expected = results.stream()
+                    .filter(entry -> entry.getDifficulty() == difficulty)
+                    .sorted()
+                    .limit(Leaderboard.TOP_PER_DIFFICULTY)
+                    .collect(Collectors.toList());
+            List<LeaderboardEntry> actual = leaderboard.top(difficulty, Leaderboard.TOP_PER_DIFFICULTY);
+            assertEquals(describe(expected), describe(actual), difficulty.name());
+            for (int i = 0; i < actual.size(); i++) {
+                assertEquals(i + 1, leaderboard.getRank(actual.get(i)));
+            }
+
+            for (int seed = 0; seed < 4; seed++) {
+                MazeKey maze = MazeKey.of(difficulty, seed);
+                List<LeaderboardEntry> expectedMaze = results.stream()
+                        .filter(entry -> maze.equals(entry.getMaze()))
+                        .sorted()
+                        .limit(Leaderboard.TOP_PER_SEED)
+                        .collect(Collectors.toList());
+                List<LeaderboardEntry> actualMaze = leaderboard.top(maze, Leaderboard.TOP_PER_SEED);
+                assertEquals(describe(expectedMaze), describe(actualMaze), maze.toString());
+                for (int i = 0; i < actualMaze.size(); i++) {
+                    assertEquals(i + 1, leaderboard.getMazeRank(actualMaze.get(i)));
+                }
+            }
+        }
+    }
+
+    private static List<String> describe(List<LeaderboardEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.getSequence() + " " + entry.getPlayer() + " " + entry.getTimeMillis() + " "
+                        + entry.getMoves() + " " + Objects.toString(entry.getMaze()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> players(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getPlayer).collect(Collectors.toList());
+    }
+
+    // File offset just past each record, read from the length fields behind the 8-byte header
+    private static long[] recordEnds(Path path) throws IOException {
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        List<Long> ends = new ArrayList<>();
+        for (int at = 8; at < log.limit(); at += 4 + log.getInt(at) + 4) {
+            ends.add((long) at + 4 + log.getInt(at) + 4);
+        }
+        return ends.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+// A key always builds the same maze and different keys build different ones; the cache hands out
+// that maze without rebuilding or solving it, keeps at most its byte budget by dropping the least
+// recently used mazes, and builds a key only once however many callers miss on it together
+class MazeCacheTest {
+    private static final MazeKey KEY = MazeKey.of(Difficulty.MEDIUM, 42);
+
+    @Test
+    void sameKeyBuildsTheSameMaze() {
+        MazeGrid first = KEY.build();
+        MazeGrid second = new MazeKey(KEY.getWidth(), KEY.getHeight(), KEY.getParams(), KEY.getSeed()).build();
+        assertTrue(first.getWalls().sameWalls(second.getWalls()));
+        assertEquals(first.getStartX(), second.getStartX());
+        assertEquals(first.getStartY(), second.getStartY());
+        assertEquals(first.getEndX(), second.getEndX());
+        assertEquals(first.getEndY(), second.getEndY());
+        assertArrayEquals(first.getShortestPathCells(), second.getShortestPathCells());
+        assertEquals(KEY, MazeKey.of(first));
+
+        LocalDate day = LocalDate.of(2026, 10, 17);
+        assertEquals(MazeKey.daily(Difficulty.HARD, day), MazeKey.daily(Difficulty.HARD, day));
+    }
+
+    @Test
+    void differentKeysBuildDifferentMazes() {
+        MazeGrid maze = KEY.build();
+        MazeKey otherSeed = MazeKey.of(Difficulty.MEDIUM, 43);
+        MazeKey otherParams = new MazeKey(KEY.getWidth(), KEY.getHeight(), KEY.getParams().withExtraPathRatio(0.05), 42);
+        MazeKey otherSize = new MazeKey(KEY.getWidth() + 2, KEY.getHeight(), KEY.getParams(), 42);
+        for (MazeKey other : List.of(otherSeed, otherParams, otherSize)) {
+            assertNotEquals(KEY, other);
+            assertFalse(maze.getWalls().sameWalls(other.build().getWalls()), other.toString());
+        }
+        assertNotEquals(MazeKey.daily(Difficulty.HARD, LocalDate.of(2026, 10, 17)),
+                MazeKey.daily(Difficulty.HARD, LocalDate.of(2026, 10, 18)));
+    }
+
+    @Test
+    void hitSharesTheWallsAndThePath() {
+        MazeCache cache = new MazeCache(1 << 20);
+        MazeGrid built = cache.get(KEY);
+        MazeGrid hit = cache.get(KEY);
+        assertSame(built.getWalls(), hit.getWalls());
+        assertSame(built.getShortestPathCells(), hit.getShortestPathCells());
+        assertTrue(KEY.build().getWalls().sameWalls(hit.getWalls()));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        // Each caller gets a maze of its own to move a ball around
+        assertNotSame(built, hit);
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvictedOverBudget() {
+        MazeKey a = MazeKey.of(Difficulty.EASY, 1);
+        MazeKey b = MazeKey.of(Difficulty.EASY, 2);
+        MazeKey c = MazeKey.of(Difficulty.EASY, 3);
+        MazeCache probe = new MazeCache(Long.MAX_VALUE);
+        probe.get(a);
+        long entryBytes = probe.getBytes();
+
+        // Room for two mazes of this size, not three
+        MazeCache cache = new MazeCache(entryBytes * 2 + entryBytes / 2);
+        cache.get(a);
+        cache.get(b);
+        assertEquals(2, cache.size());
+        cache.get(a);
+        cache.get(c);
+
+        assertTrue(cache.contains(a));
+        assertFalse(cache.contains(b));
+        assertTrue(cache.contains(c));
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        assertNull(cache.getIfPresent(b));
+    }
+
+    @Test
+    void mazeOverBudgetIsNotKept() {
+        MazeCache cache = new MazeCache(100);
+        cache.get(KEY);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    void putChecksTheKey() {
+        MazeCache cache = new MazeCache(1 << 20);
+        MazeGrid maze = KEY.build();
+        assertThrows(IllegalArgumentException.class, () -> cache.put(MazeKey.of(Difficulty.MEDIUM, 41), maze));
+        cache.put(KEY, maze);
+        assertSame(maze.getWalls(), cache.getIfPresent(KEY).getWalls());
+    }
+
+    @Test
+    void concurrentMissesBuildOnce() throws Exception {
+        MazeKey key = MazeKey.of(Difficulty.EXPERT, 7);
+        key = new MazeKey(301, 301, key.getParams(), key.getSeed());
+        MazeCache cache = new MazeCache(1 << 24);
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<MazeGrid>> results = new ArrayList<>();
+            MazeKey shared = key;
+            Callable<MazeGrid> get = () -> {
+                go.await();
+                return cache.get(shared);
+            };
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(get));
+            }
+            go.countDown();
+
+            // One build means one set of walls shared by every caller
+            WallGrid walls = results.get(0).get(60, TimeUnit.SECONDS).getWalls();
+            for (Future<MazeGrid> result : results) {
+                assertSame(walls, result.get(60, TimeUnit.SECONDS).getWalls());
+            }
+            assertEquals(1, cache.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
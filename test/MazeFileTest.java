@@ -0,0 +1,129 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// A maze read back is the maze written, replacing a file never leaves a torn or temporary one
+// behind, and a damaged file is refused with IOException rather than read as a wrong maze
+class MazeFileTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsEverything() throws IOException {
+        MazeParams params = MazeParams.forDifficulty(Difficulty.HARD).withCorridors(2, 4).withBranchProbability(0.4);
+        MazeGrid maze = new MazeGrid(41, 23, params, 12345);
+        Path path = dir.resolve("maze" + MazeFile.EXTENSION);
+        MazeFile.write(maze, path);
+
+        MazeGrid read = MazeFile.read(path);
+        assertSameMaze(maze, read);
+        assertFalse(read.getWalls().isOnHeap());
+        assertEquals(List.of(path), files());
+    }
+
+    @Test
+    void unseededMazeStaysUnseeded() throws IOException {
+        MazeGrid maze = new MazeGrid(15, Difficulty.EASY, new Random(3));
+        Path path = dir.resolve("maze" + MazeFile.EXTENSION);
+        MazeFile.write(maze, path);
+        assertEquals(OptionalLong.empty(), MazeFile.read(path).getSeed());
+    }
+
+    @Test
+    void writeReplacesAnExistingFile() throws IOException {
+        Path path = dir.resolve("maze" + MazeFile.EXTENSION);
+        MazeFile.write(new MazeGrid(61, 61, MazeParams.forDifficulty(Difficulty.EXPERT), 1), path);
+        MazeGrid smaller = new MazeGrid(21, 15, MazeParams.forDifficulty(Difficulty.EASY), 2);
+        MazeFile.write(smaller, path);
+
+        assertSameMaze(smaller, MazeFile.read(path));
+        assertEquals(List.of(path), files());
+    }
+
+    // POSIX systems rename over a mapped file and the old mapping keeps the old walls; Windows
+    // refuses to replace a mapped file, and then the write must fail whole, leaving the old file
+    @Test
+    void replacingAMappedFileNeverTearsEither() throws IOException {
+        Path path = dir.resolve("maze" + MazeFile.EXTENSION);
+        MazeGrid first = new MazeGrid(31, 31, MazeParams.forDifficulty(Difficulty.MEDIUM), 3);
+        MazeGrid second = new MazeGrid(25, 35, MazeParams.forDifficulty(Difficulty.EASY), 4);
+        MazeFile.write(first, path);
+        MazeGrid mapped = MazeFile.read(path);
+
+        boolean replaced;
+        try {
+            MazeFile.write(second, path);
+            replaced = true;
+        } catch (IOException ex) {
+            replaced = false;
+        }
+
+        assertSameMaze(first, mapped);
+        assertSameMaze(replaced ? second : first, MazeFile.read(path));
+        assertEquals(List.of(path), files());
+    }
+
+    @Test
+    void damagedFilesAreRefused() throws IOException {
+        Path path = dir.resolve("maze" + MazeFile.EXTENSION);
+        MazeFile.write(new MazeGrid(21, 21, MazeParams.forDifficulty(Difficulty.MEDIUM), 5), path);
+        byte[] good = Files.readAllBytes(path);
+
+        // Header cut short, then walls cut short
+        assertRefused(path, Arrays.copyOf(good, 40));
+        assertRefused(path, Arrays.copyOf(good, good.length - 8));
+        // Wrong magic, unknown version, impossible size, unknown difficulty, bad parameters
+        assertRefused(path, patched(good, 0, 'X'));
+        assertRefused(path, patched(good, 4, 9));
+        assertRefused(path, patched(good, 8, 0));
+        assertRefused(path, patched(good, 64, 77));
+        assertRefused(path, patched(good, 47, 0x7F));
+        assertRefused(path, new byte[0]);
+    }
+
+    private static void assertSameMaze(MazeGrid expected, MazeGrid actual) {
+        assertEquals(expected.getWalls().getWidth(), actual.getWalls().getWidth());
+        assertEquals(expected.getWalls().getHeight(), actual.getWalls().getHeight());
+        assertTrue(expected.getWalls().sameWalls(actual.getWalls()));
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getParams(), actual.getParams());
+        assertEquals(expected.getStartX(), actual.getStartX());
+        assertEquals(expected.getStartY(), actual.getStartY());
+        assertEquals(expected.getEndX(), actual.getEndX());
+        assertEquals(expected.getEndY(), actual.getEndY());
+        assertEquals(expected.getAttempts(), actual.getAttempts());
+    }
+
+    // A file of its own each time, as a mapping left by an earlier read would keep Windows from
+    // overwriting the last one
+    private static void assertRefused(Path path, byte[] contents) throws IOException {
+        Path damaged = Files.createTempFile(path.getParent(), "damaged-", MazeFile.EXTENSION);
+        Files.write(damaged, contents);
+        assertThrows(IOException.class, () -> MazeFile.read(damaged));
+    }
+
+    private static byte[] patched(byte[] bytes, int at, int value) {
+        byte[] copy = bytes.clone();
+        copy[at] = (byte) value;
+        return copy;
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// A seed and its parameters fix the maze, whether it is built alone or as part of a batch on any
+// number of threads, and sizes or parameters that cannot make a maze are refused up front
+class MazeGeneratorTest {
+    private static final MazeParams PARAMS = MazeParams.forDifficulty(Difficulty.MEDIUM);
+
+    @Test
+    void sameSeedSameWalls() {
+        SplittableRandom random = new SplittableRandom(19);
+        for (int i = 0; i < 30; i++) {
+            int width = 5 + 2 * random.nextInt(30);
+            int height = 5 + 2 * random.nextInt(30);
+            MazeParams params = MazeParams.forDifficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)])
+                    .withBranchProbability(random.nextDouble());
+            long seed = random.nextLong();
+
+            MazeGrid first = new MazeGrid(width, height, params, seed);
+            MazeGrid second = new MazeGrid(width, height, params, seed);
+            String where = width + "x" + height + " " + params + " seed " + seed;
+            assertTrue(first.getWalls().sameWalls(second.getWalls()), where);
+            assertEquals(first.getStartX(), second.getStartX(), where);
+            assertEquals(first.getStartY(), second.getStartY(), where);
+            assertEquals(first.getEndX(), second.getEndX(), where);
+            assertEquals(first.getEndY(), second.getEndY(), where);
+            assertEquals(first.getAttempts(), second.getAttempts(), where);
+
+            // The generator alone, from the same RNG state
+            WallGrid a = new WallGrid(width, height);
+            WallGrid b = new WallGrid(width, height);
+            new MazeGenerator(new SplittableRandom(seed)).generate(a, params);
+            new MazeGenerator(new SplittableRandom(seed)).generate(b, params);
+            assertTrue(a.sameWalls(b), where);
+        }
+    }
+
+    @Test
+    void otherSeedOtherWalls() {
+        MazeGrid maze = new MazeGrid(41, 41, PARAMS, 1);
+        assertFalse(maze.getWalls().sameWalls(new MazeGrid(41, 41, PARAMS, 2).getWalls()));
+        assertFalse(maze.getWalls().sameWalls(new MazeGrid(41, 41, PARAMS.withCorridors(0, 0), 1).getWalls()));
+    }
+
+    @Test
+    void batchDoesNotDependOnThreads() throws Exception {
+        List<WallGrid> alone = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            alone.add(new MazeGrid(31, 25, PARAMS, MazeBatch.seedFor(99, i)).getWalls());
+        }
+        for (int threads : new int[] {1, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                List<WallGrid> batch = pool.submit(() -> MazeBatch.generate(31, 25, PARAMS, 24, 99)
+                        .map(MazeGrid::getWalls)
+                        .collect(Collectors.toList())).get();
+                assertEquals(alone.size(), batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    assertTrue(alone.get(i).sameWalls(batch.get(i)), "maze " + i + " on " + threads + " threads");
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-7, 0, 3, 4, 6, 20})
+    void badSidesAreRefused(int side) {
+        assertThrows(IllegalArgumentException.class, () -> new MazeGrid(side, 21, PARAMS, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MazeGrid(21, side, PARAMS, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MazeGrid(side, Difficulty.EASY, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MazeKey(side, 21, PARAMS, 1));
+    }
+
+    @Test
+    void badParamsAreRefused() {
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withExtraPathRatio(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withExtraPathRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withExtraPathRatio(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withCorridors(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withCorridors(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withBranchProbability(1.01));
+        assertThrows(IllegalArgumentException.class, () -> PARAMS.withBranchProbability(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> MazeBatch.generate(Difficulty.EASY, -1, 0));
+
+        // The edges of each range are fine
+        new MazeGrid(5, 5, PARAMS.withExtraPathRatio(0).withCorridors(0, 0).withBranchProbability(0), 1);
+        new MazeGrid(5, 7, PARAMS.withExtraPathRatio(1).withBranchProbability(1), 1);
+    }
+}
@@ -0,0 +1,73 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// However often a pool is drained, the worker tops it back up to its target depth and never past
+// it; a drain that races the end of a refill must still get the next one
+class MazePoolTest {
+    private static final int TARGET = 3;
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    private final MazePool pool = new MazePool(TARGET, 1);
+
+    @AfterEach
+    void shutDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void prefillFillsEveryDifficulty() throws InterruptedException {
+        pool.prefill();
+        for (Difficulty difficulty : Difficulty.values()) {
+            await(() -> pool.getDepth(difficulty) == TARGET, difficulty + " filled");
+        }
+    }
+
+    @Test
+    void drainedPoolIsRefilled() throws InterruptedException {
+        // Asking an empty pool starts its refill
+        assertNull(pool.poll(Difficulty.EASY));
+        await(() -> pool.getDepth(Difficulty.EASY) == TARGET, "first fill");
+        for (int round = 0; round < 100; round++) {
+            // Drain as fast as mazes arrive, so some drains land while a refill is finishing
+            while (pool.poll(Difficulty.EASY) != null) {
+                assertTrue(pool.getDepth(Difficulty.EASY) <= TARGET);
+            }
+            int done = round;
+            await(() -> pool.getDepth(Difficulty.EASY) == TARGET, "refill after round " + done);
+        }
+    }
+
+    @Test
+    void emptyPoolStillHandsOutMazes() {
+        MazePool empty = new MazePool(0, 0);
+        try {
+            assertNull(empty.poll(Difficulty.EASY));
+            assertNotNull(empty.take(Difficulty.EASY));
+            assertEquals(0, empty.getDepth(Difficulty.EASY));
+        } finally {
+            empty.shutdown();
+        }
+    }
+
+    @Test
+    void badDepthsAreRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new MazePool(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MazePool(2, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MazePool(2, 3));
+    }
+
+    private static void await(BooleanSupplier condition, String what) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for " + what);
+            Thread.onSpinWait();
+        }
+    }
+}
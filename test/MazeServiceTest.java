@@ -0,0 +1,122 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// However a build is abandoned, the future ends cancelled (or timed out) and the worker stops at
+// its next check instead of building the rest of the maze
+class MazeServiceTest {
+    private static final int SIZE = 101;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final MazeService service = new MazeService(executor);
+    private final List<MazeBuildPhase> phases = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void buildsWhenLeftAlone() throws Exception {
+        MazeGrid maze = service.generate(SIZE, Difficulty.MEDIUM, 1, record(), null).get(30, TimeUnit.SECONDS);
+        assertTrue(new MazeGrid(SIZE, Difficulty.MEDIUM, 1).getWalls().sameWalls(maze.getWalls()));
+        assertEquals(MazeBuildPhase.CARVING, phases.get(0));
+    }
+
+    @Test
+    void cancelBeforeStartNeverBuilds() throws Exception {
+        // The only worker is busy until the future is cancelled
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        CompletableFuture<MazeGrid> future = service.generate(SIZE, Difficulty.MEDIUM, 1, record(), null);
+        assertTrue(future.cancel(true));
+        release.countDown();
+
+        assertWorkerStops();
+        assertTrue(future.isCancelled());
+        assertEquals(List.of(), phases);
+    }
+
+    @Test
+    void cancelMidBuildStopsAtTheNextCheck() throws Exception {
+        CountDownLatch carving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MazeGrid> future = service.generate(SIZE, Difficulty.MEDIUM, 1,
+                (phase, attempt, maxAttempts) -> {
+                    phases.add(phase);
+                    carving.countDown();
+                    awaitQuietly(release);
+                }, null);
+        assertTrue(carving.await(10, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+        release.countDown();
+
+        assertWorkerStops();
+        assertTrue(future.isCancelled());
+        assertEquals(List.of(MazeBuildPhase.CARVING), phases);
+    }
+
+    @Test
+    void listenerCanAbandonTheBuild() throws Exception {
+        CompletableFuture<MazeGrid> future = service.generate(SIZE, Difficulty.MEDIUM, 1,
+                (phase, attempt, maxAttempts) -> {
+                    phases.add(phase);
+                    throw new CancellationException("not wanted any more");
+                }, null);
+
+        assertWorkerStops();
+        assertTrue(future.isCancelled());
+        assertEquals(List.of(MazeBuildPhase.CARVING), phases);
+    }
+
+    @Test
+    void deadlineFailsTheFutureAndStopsTheWorker() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MazeGrid> future = service.generate(SIZE, Difficulty.MEDIUM, 1,
+                (phase, attempt, maxAttempts) -> {
+                    phases.add(phase);
+                    awaitQuietly(release);
+                }, Duration.ofMillis(50));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        release.countDown();
+
+        assertWorkerStops();
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(List.of(MazeBuildPhase.CARVING), phases);
+    }
+
+    private MazeBuildListener record() {
+        return (phase, attempt, maxAttempts) -> phases.add(phase);
+    }
+
+    // The build task has returned once the single worker is free to finish shutting down
+    private void assertWorkerStops() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
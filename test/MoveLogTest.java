@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// Seeking lands on the cell walking the moves would reach, times map to moves and back through the
+// checkpoints, and the log costs a fraction of a byte per move
+class MoveLogTest {
+    private static final int WIDTH = 1000;
+
+    @Test
+    void seekMatchesWalkingTheMoves() {
+        SplittableRandom random = new SplittableRandom(1);
+        // Small interval and capacity, so checkpoints and both arrays grow while recording
+        MoveLog log = new MoveLog(WIDTH, 500 * WIDTH + 500, 16, 8);
+        List<Integer> cells = new ArrayList<>();
+        cells.add(log.getStartCell());
+        for (int i = 0; i < 5000; i++) {
+            int direction = random.nextInt(4);
+            log.record(direction);
+            cells.add(MoveLog.step(cells.get(cells.size() - 1), direction, WIDTH));
+        }
+        assertEquals(5000, log.size());
+        assertEquals(cells.get(5000), log.getEndCell());
+
+        MoveReplay replay = new MoveReplay(log);
+        for (int i = 0; i < 2000; i++) {
+            int target = random.nextInt(log.size() + 1);
+            replay.seek(target);
+            assertEquals(target, replay.getMove());
+            assertEquals((int) cells.get(target), replay.getCell(), "after seeking to " + target);
+        }
+        replay.seek(0);
+        while (replay.step()) {
+            assertEquals((int) cells.get(replay.getMove()), replay.getCell());
+        }
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    void timesMapToMovesAndBack() throws InterruptedException {
+        MoveLog log = new MoveLog(WIDTH, 0, 4, 0);
+        for (int i = 0; i < 60; i++) {
+            log.record(i % 2 == 0 ? MoveLog.RIGHT : MoveLog.DOWN);
+            if (i % 7 == 0) {
+                Thread.sleep(3);
+            }
+        }
+        int duration = log.getDurationMillis();
+        assertTrue(duration >= 9 * 3, "duration " + duration);
+
+        assertEquals(0.0, log.getMillisAt(0));
+        assertEquals(duration, log.getMillisAt(log.size()));
+        for (int c = 0; c <= log.size() / log.getCheckpointInterval(); c++) {
+            assertEquals(log.getCheckpointMillis(c), log.getMillisAt(c * log.getCheckpointInterval()));
+        }
+        for (int move = 1; move <= log.size(); move++) {
+            assertTrue(log.getMillisAt(move) >= log.getMillisAt(move - 1), "time goes back at " + move);
+        }
+
+        assertEquals(0, log.getMovesAt(-5));
+        assertEquals(log.size(), log.getMovesAt(duration));
+        int previous = 0;
+        for (double t = 0; t < duration; t += 0.25) {
+            int moves = log.getMovesAt(t);
+            assertTrue(moves >= previous, "moves go back at " + t);
+            // Never ahead of the clock
+            assertTrue(log.getMillisAt(moves) <= t + 1e-9, moves + " moves at " + t + " ms");
+            previous = moves;
+        }
+
+        MoveReplay replay = new MoveReplay(log);
+        replay.seekToTime(duration);
+        assertEquals(log.getEndCell(), replay.getCell());
+    }
+
+    @Test
+    void footprintIsTwoBitsPerMovePlusCheckpoints() {
+        MoveLog log = new MoveLog(WIDTH, 0, MoveLog.DEFAULT_CHECKPOINT_INTERVAL, 10_000);
+        for (int i = 0; i < 10_000; i++) {
+            log.record(MoveLog.RIGHT);
+        }
+        // 313 words of moves and 157 checkpoints of a cell and a time each
+        assertEquals(313 * Long.BYTES + 157 * 2 * Integer.BYTES, log.getFootprintBytes());
+        assertTrue(log.getFootprintBytes() < log.size() / 2);
+    }
+
+    @Test
+    void badInputIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MoveLog(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MoveLog(WIDTH, 0, 0, 10));
+        MoveLog log = new MoveLog(WIDTH, 0);
+        assertThrows(IllegalArgumentException.class, () -> log.record(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.getDirection(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.getCheckpointMillis(1));
+    }
+
+    @Test
+    void directionsBetweenNeighborsOnly() {
+        assertEquals(MoveLog.UP, MoveLog.directionBetween(WIDTH + 5, 5, WIDTH));
+        assertEquals(MoveLog.DOWN, MoveLog.directionBetween(5, WIDTH + 5, WIDTH));
+        assertEquals(MoveLog.LEFT, MoveLog.directionBetween(5, 4, WIDTH));
+        assertEquals(MoveLog.RIGHT, MoveLog.directionBetween(4, 5, WIDTH));
+        // Wrapping around a row edge is not a move
+        assertEquals(-1, MoveLog.directionBetween(WIDTH, WIDTH - 1, WIDTH));
+        assertEquals(-1, MoveLog.directionBetween(WIDTH - 1, WIDTH, WIDTH));
+        assertEquals(-1, MoveLog.directionBetween(5, 7, WIDTH));
+    }
+}
@@ -0,0 +1,101 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// Every shortest-path solver against BfsSolver: the same path length, or no path, and a path that
+// really walks from start to goal through open cells. One solver instance handles every grid in
+// turn, so reused scratch buffers are covered too.
+class PathSolverTest {
+    private final BfsSolver reference = new BfsSolver();
+
+    static Stream<PathSolver> solvers() {
+        return Stream.of(new BidirectionalBfsSolver(), new JumpPointSolver());
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    void matchesBfsOnSeededMazes(PathSolver solver) {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 150; i++) {
+            int width = 5 + 2 * random.nextInt(30);
+            int height = 5 + 2 * random.nextInt(30);
+            Difficulty difficulty = Difficulty.values()[random.nextInt(Difficulty.values().length)];
+            MazeGrid maze = new MazeGrid(width, height, MazeParams.forDifficulty(difficulty), random.nextLong());
+            WallGrid walls = maze.getWalls();
+            check(solver, walls, walls.index(maze.getStartX(), maze.getStartY()),
+                    walls.index(maze.getEndX(), maze.getEndY()));
+            for (int j = 0; j < 10; j++) {
+                check(solver, walls, randomOpenCell(walls, random), randomOpenCell(walls, random));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    void matchesBfsOnRandomGrids(PathSolver solver) {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 1500; i++) {
+            int width = 1 + random.nextInt(40);
+            int height = 1 + random.nextInt(40);
+            WallGrid walls = new WallGrid(width, height);
+            double wallChance = random.nextDouble() * 0.45;
+            for (int cell = 0; cell < walls.getCellCount(); cell++) {
+                if (random.nextDouble() < wallChance) {
+                    walls.setWall(cell);
+                }
+            }
+            // Any cells, so walled, unreachable and equal endpoints come up too
+            check(solver, walls, random.nextInt(walls.getCellCount()), random.nextInt(walls.getCellCount()));
+
+            // The same walls again, then with one cell flipped, as a solver caching per grid would see them
+            int start = random.nextInt(walls.getCellCount());
+            int goal = random.nextInt(walls.getCellCount());
+            check(solver, walls, start, goal);
+            int flipped = random.nextInt(walls.getCellCount());
+            if (walls.isWall(flipped)) {
+                walls.clearWall(flipped);
+            } else {
+                walls.setWall(flipped);
+            }
+            check(solver, walls, start, goal);
+        }
+    }
+
+    private void check(PathSolver solver, WallGrid walls, int start, int goal) {
+        int[] expected = reference.solve(walls, start, goal).getPath();
+        int[] path = solver.solve(walls, start, goal).getPath();
+        String where = solver.getName() + " on " + walls.getWidth() + "x" + walls.getHeight()
+                + " from " + start + " to " + goal;
+        assertEquals(expected.length, path.length, where);
+        if (path.length == 0) {
+            return;
+        }
+        assertEquals(start, path[0], where);
+        assertEquals(goal, path[path.length - 1], where);
+        int width = walls.getWidth();
+        for (int i = 0; i < path.length; i++) {
+            assertFalse(walls.isWall(path[i]), where + ": wall at step " + i);
+            if (i > 0) {
+                int from = path[i - 1];
+                int to = path[i];
+                boolean adjacent = Math.abs(from - to) == width
+                        || (Math.abs(from - to) == 1 && from / width == to / width);
+                assertTrue(adjacent, where + ": jump between " + from + " and " + to);
+            }
+        }
+    }
+
+    private static int randomOpenCell(WallGrid walls, SplittableRandom random) {
+        while (true) {
+            int cell = random.nextInt(walls.getCellCount());
+            if (!walls.isWall(cell)) {
+                return cell;
+            }
+        }
+    }
+}
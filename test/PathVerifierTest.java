@@ -0,0 +1,191 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// The bridge check against the definition: there is another route exactly when some edge of a
+// shortest route can be removed without cutting the start off from the goal
+class PathVerifierTest {
+    private final PathVerifier verifier = new PathVerifier();
+
+    @Test
+    void matchesEdgeRemovalOnGeneratedMazes() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 200; i++) {
+            int width = 5 + 2 * random.nextInt(10);
+            int height = 5 + 2 * random.nextInt(10);
+            MazeParams params = MazeParams.forDifficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)]);
+            if (random.nextBoolean()) {
+                // Mostly perfect mazes, where the answer is often no
+                params = params.withExtraPathRatio(random.nextDouble() * 0.02).withCorridors(0, random.nextInt(2));
+            }
+            MazeGrid maze = new MazeGrid(width, height, params, random.nextLong());
+            WallGrid walls = maze.getWalls();
+            int start = walls.index(maze.getStartX(), maze.getStartY());
+            int goal = walls.index(maze.getEndX(), maze.getEndY());
+            assertEquals(bruteForce(walls, start, goal), verifier.hasAlternativeRoute(walls, start, goal),
+                    "maze " + i + ": " + width + "x" + height + " " + params);
+        }
+    }
+
+    @Test
+    void matchesEdgeRemovalOnRandomGrids() {
+        SplittableRandom random = new SplittableRandom(5);
+        boolean sawRoutes = false;
+        boolean sawSingleRoute = false;
+        for (int i = 0; i < 2000; i++) {
+            WallGrid walls = randomGrid(random, 1 + random.nextInt(12), 1 + random.nextInt(12), 0.2 + random.nextDouble() * 0.4);
+            int start = random.nextInt(walls.getCellCount());
+            int goal = random.nextInt(walls.getCellCount());
+            boolean expected = bruteForce(walls, start, goal);
+            assertEquals(expected, verifier.hasAlternativeRoute(walls, start, goal), "grid " + i);
+            sawRoutes |= expected;
+            sawSingleRoute |= !expected && distance(walls, start, goal, -1, -1) > 0;
+        }
+        assertTrue(sawRoutes && sawSingleRoute);
+    }
+
+    @Test
+    void bridgesMatchEdgeRemoval() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 2000; i++) {
+            WallGrid walls = randomGrid(random, 1 + random.nextInt(12), 1 + random.nextInt(12), 0.2 + random.nextDouble() * 0.4);
+            int start = random.nextInt(walls.getCellCount());
+            int goal = random.nextInt(walls.getCellCount());
+            assertEquals(bruteForceBridges(walls, start, goal), verifier.countBridges(walls, start, goal), "grid " + i);
+        }
+    }
+
+    @Test
+    void generatedMazesHaveDetours() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 50; i++) {
+            Difficulty difficulty = Difficulty.values()[random.nextInt(Difficulty.values().length)];
+            MazeGrid maze = new MazeGrid(15 + 2 * random.nextInt(10), difficulty, random.nextLong());
+            WallGrid walls = maze.getWalls();
+            int start = walls.index(maze.getStartX(), maze.getStartY());
+            int goal = walls.index(maze.getEndX(), maze.getEndY());
+            int steps = distance(walls, start, goal, -1, -1);
+            // A maze is only kept with a second route, so some step of the shortest one has a detour
+            assertEquals(steps - bruteForceBridges(walls, start, goal), maze.getDetourSteps(), "maze " + i);
+            assertTrue(maze.getDetourSteps() > 0, "maze " + i);
+        }
+    }
+
+    @Test
+    void singleCorridorHasNoAlternative() {
+        WallGrid walls = new WallGrid(5, 1);
+        assertFalse(verifier.hasAlternativeRoute(walls, 0, 4));
+        assertEquals(1, verifier.countEdgeDisjointRoutes(walls, 0, 4, 3));
+        assertEquals(4, verifier.countBridges(walls, 0, 4));
+    }
+
+    @Test
+    void openSquareHasTwoDisjointRoutes() {
+        WallGrid walls = new WallGrid(3, 3);
+        assertTrue(verifier.hasAlternativeRoute(walls, 0, 8));
+        assertEquals(2, verifier.countEdgeDisjointRoutes(walls, 0, 8, 5));
+        assertEquals(0, verifier.countBridges(walls, 0, 8));
+    }
+
+    @Test
+    void wallsAndSameCellHaveNoRoutes() {
+        WallGrid walls = new WallGrid(3, 3);
+        walls.setWall(4);
+        assertFalse(verifier.hasAlternativeRoute(walls, 0, 0));
+        assertFalse(verifier.hasAlternativeRoute(walls, 0, 4));
+        assertEquals(0, verifier.countEdgeDisjointRoutes(walls, 4, 0, 2));
+        assertEquals(-1, verifier.countBridges(walls, 4, 0));
+        assertEquals(0, verifier.countBridges(walls, 0, 0));
+    }
+
+    private static WallGrid randomGrid(SplittableRandom random, int width, int height, double wallChance) {
+        WallGrid walls = new WallGrid(width, height);
+        for (int cell = 0; cell < walls.getCellCount(); cell++) {
+            if (random.nextDouble() < wallChance) {
+                walls.setWall(cell);
+            }
+        }
+        return walls;
+    }
+
+    private static boolean bruteForce(WallGrid walls, int start, int goal) {
+        if (walls.isWall(start) || walls.isWall(goal) || start == goal) {
+            return false;
+        }
+        int[] route = route(walls, start, goal);
+        for (int i = 1; i < route.length; i++) {
+            if (distance(walls, start, goal, route[i - 1], route[i]) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Edges of a shortest route whose removal cuts the start off from the goal, or -1 without a route
+    private static int bruteForceBridges(WallGrid walls, int start, int goal) {
+        if (walls.isWall(start) || walls.isWall(goal) || distance(walls, start, goal, -1, -1) < 0) {
+            return -1;
+        }
+        int[] route = route(walls, start, goal);
+        int bridges = 0;
+        for (int i = 1; i < route.length; i++) {
+            if (distance(walls, start, goal, route[i - 1], route[i]) < 0) {
+                bridges++;
+            }
+        }
+        return bridges;
+    }
+
+    // Plain BFS distance, or -1 when unreachable, never crossing the edge between cut cells a and b
+    private static int distance(WallGrid walls, int start, int goal, int a, int b) {
+        int[] parent = search(walls, start, a, b);
+        if (parent[goal] == -2) {
+            return -1;
+        }
+        int steps = 0;
+        for (int cell = goal; cell != start; cell = parent[cell]) {
+            steps++;
+        }
+        return steps;
+    }
+
+    private static int[] route(WallGrid walls, int start, int goal) {
+        int[] parent = search(walls, start, -1, -1);
+        int[] route = new int[distance(walls, start, goal, -1, -1) + 1];
+        for (int i = route.length - 1, cell = goal; i >= 0; i--, cell = parent[cell]) {
+            route[i] = cell;
+        }
+        return route;
+    }
+
+    private static int[] search(WallGrid walls, int start, int a, int b) {
+        int width = walls.getWidth();
+        int[] parent = new int[walls.getCellCount()];
+        Arrays.fill(parent, -2);
+        int[] queue = new int[walls.getCellCount()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        parent[start] = -1;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            int[][] moves = {{x, y - 1}, {x, y + 1}, {x - 1, y}, {x + 1, y}};
+            for (int[] move : moves) {
+                if (!walls.isOpen(move[0], move[1])) continue;
+                int next = walls.index(move[0], move[1]);
+                boolean cut = (cell == a && next == b) || (cell == b && next == a);
+                if (!cut && parent[next] == -2) {
+                    parent[next] = cell;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return parent;
+    }
+}